@@ -0,0 +1,74 @@
+package br.com.fiap.postech.goodbuy.item.benchmark;
+
+import br.com.fiap.postech.goodbuy.item.entity.Item;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemJsonBenchmark {
+    @Param({"20", "100"})
+    public int tamanhoPagina;
+
+    private ObjectMapper objectMapper;
+    private Item item;
+    private byte[] itemJson;
+    private Page<Item> pagina;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        item = itemCompleto();
+        itemJson = objectMapper.writeValueAsBytes(item);
+        List<Item> items = IntStream.range(0, tamanhoPagina).mapToObj(i -> itemCompleto()).toList();
+        pagina = new PageImpl<>(items, PageRequest.of(0, tamanhoPagina), 10_000);
+    }
+
+    @Benchmark
+    public byte[] serializaItem() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(item);
+    }
+
+    @Benchmark
+    public Item desserializaItem() throws IOException {
+        return objectMapper.readValue(itemJson, Item.class);
+    }
+
+    @Benchmark
+    public byte[] serializaPagina() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pagina);
+    }
+
+    private static Item itemCompleto() {
+        Item item = ItemServiceBenchmark.novoItem();
+        Instant agora = Instant.now();
+        item.setId(UUID.randomUUID());
+        item.setVersao(0L);
+        item.setCriadoEm(agora);
+        item.setAtualizadoEm(agora);
+        return item;
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.fiap.postech.goodbuy.item.benchmark;
+
+import br.com.fiap.postech.goodbuy.item.dto.ItemFilterDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemMatchMode;
+import br.com.fiap.postech.goodbuy.item.entity.Item;
+import br.com.fiap.postech.goodbuy.item.repository.ItemRepository;
+import br.com.fiap.postech.goodbuy.item.service.ItemChangeNotifier;
+import br.com.fiap.postech.goodbuy.item.service.ItemChangeSequencer;
+import br.com.fiap.postech.goodbuy.item.service.ItemService;
+import br.com.fiap.postech.goodbuy.item.service.ItemServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemRepositoryBenchmark {
+    private static final UUID ID = UUID.fromString("b04fa8fb-2de7-4589-9606-94e834acf310");
+
+    @Param({"10000"})
+    public int quantidadeItems;
+
+    private ConfigurableApplicationContext context;
+    private ItemRepository itemRepository;
+    private ItemService itemService;
+    private ItemFilterDTO filtro;
+    private Example<Item> exemplo;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(RepositorioConfiguration.class)
+                .profiles("test")
+                .properties("spring.datasource.driver-class-name=org.h2.Driver")
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run();
+        itemRepository = context.getBean(ItemRepository.class);
+        itemService = context.getBean(ItemService.class);
+        itemService.saveAll(IntStream.range(0, quantidadeItems)
+                .mapToObj(i -> new Item(
+                        "Item " + i,
+                        10D + i % 50,
+                        "Descricao do item " + i,
+                        i % 2 == 0 ? "Cerveja" : "Vinho",
+                        "urldaImagem" + i,
+                        100L
+                ))
+                .iterator());
+        filtro = new ItemFilterDTO("item 1", ItemMatchMode.PREFIX, null, null, null, null, null, "Cerveja", null, true);
+        exemplo = Example.of(
+                new Item("item 1", null, null, "Cerveja", null, null),
+                ExampleMatcher.matching()
+                        .withMatcher("nome", ExampleMatcher.GenericPropertyMatchers.startsWith().ignoreCase())
+                        .withMatcher("categoria", ExampleMatcher.GenericPropertyMatchers.exact())
+        );
+        pageable = PageRequest.of(0, 20, Sort.by("nome", "id"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Item> buscaPorExemplo() {
+        return itemRepository.findAll(exemplo, pageable);
+    }
+
+    @Benchmark
+    public Page<Item> buscaPorFiltro() {
+        return itemService.findAll(pageable, filtro);
+    }
+
+    @Benchmark
+    public Optional<Item> buscaPorId() {
+        return itemRepository.findById(ID);
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            FlywayAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            SqlInitializationAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = Item.class)
+    @EnableJpaRepositories(basePackageClasses = ItemRepository.class)
+    @Import({ItemServiceImpl.class, ItemChangeSequencer.class, ItemChangeNotifier.class})
+    static class RepositorioConfiguration {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager();
+        }
+    }
+}
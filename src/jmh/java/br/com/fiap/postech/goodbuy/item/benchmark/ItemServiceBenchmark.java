@@ -0,0 +1,83 @@
+package br.com.fiap.postech.goodbuy.item.benchmark;
+
+import br.com.fiap.postech.goodbuy.item.entity.Item;
+import br.com.fiap.postech.goodbuy.item.repository.ItemChangeRepository;
+import br.com.fiap.postech.goodbuy.item.repository.ItemRepository;
+import br.com.fiap.postech.goodbuy.item.service.ItemChangeNotifier;
+import br.com.fiap.postech.goodbuy.item.service.ItemChangeSequencer;
+import br.com.fiap.postech.goodbuy.item.service.ItemService;
+import br.com.fiap.postech.goodbuy.item.service.ItemServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ItemServiceBenchmark {
+    private ItemChangeNotifier itemChangeNotifier;
+    private ItemService itemService;
+
+    @Setup
+    public void setUp() {
+        ItemChangeSequencer itemChangeSequencer = new ItemChangeSequencer(stub(ItemChangeRepository.class));
+        itemChangeNotifier = new ItemChangeNotifier(itemChangeSequencer, Duration.ofSeconds(1));
+        itemService = new ItemServiceImpl(
+                stub(ItemRepository.class),
+                stub(ItemChangeRepository.class),
+                itemChangeNotifier,
+                new ConcurrentMapCacheManager()
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        itemChangeNotifier.destroy();
+    }
+
+    @Benchmark
+    public Item cadastraItem() {
+        return itemService.save(novoItem());
+    }
+
+    @Benchmark
+    public String rejeitaItemInvalido() {
+        Item item = novoItem();
+        item.setPreco(-1D);
+        try {
+            itemService.save(item);
+            return null;
+        } catch (IllegalArgumentException exception) {
+            return exception.getMessage();
+        }
+    }
+
+    static Item novoItem() {
+        return new Item("Fullers London Pride", 25.58, "Premium Ale", "Cerveja", "urldaImagemDaLP", 2314L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> tipo) {
+        return (T) Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[]{tipo}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "findByNome" -> Optional.empty();
+                    case "save" -> args[0];
+                    case "travaUltimaPosicao" -> 0L;
+                    case "findByPosicaoIsNullOrderBySequencia" -> List.of();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+}
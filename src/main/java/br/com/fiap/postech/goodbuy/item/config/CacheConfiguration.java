@@ -0,0 +1,41 @@
+package br.com.fiap.postech.goodbuy.item.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching(order = CacheConfiguration.CACHING_ORDER)
+public class CacheConfiguration {
+    public static final String ITEM_CACHE = "item";
+    public static final String ITEM_COUNT_CACHE = "item-count";
+    public static final int CACHING_ORDER = MetricsConfiguration.METRICS_ORDER + 1;
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${item.cache.maximum-size:10000}") long maximumSize,
+            @Value("${item.cache.expire-after-write:10m}") Duration expireAfterWrite,
+            @Value("${item.cache.count.maximum-size:1000}") long countMaximumSize,
+            @Value("${item.cache.count.expire-after-write:30s}") Duration countExpireAfterWrite
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(ITEM_CACHE, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(ITEM_COUNT_CACHE, Caffeine.newBuilder()
+                .maximumSize(countMaximumSize)
+                .expireAfterWrite(countExpireAfterWrite)
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.fiap.postech.goodbuy.item.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "item.datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfiguration {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            @Value("${item.datasource.replica.urls}") List<String> urls,
+            @Value("${item.datasource.replica.max-lag:5s}") Duration maxLag,
+            @Value("${item.datasource.replica.lag-check-interval:5s}") Duration lagCheckInterval,
+            @Value("${item.datasource.replica.lag-query:}") String lagQuery
+    ) {
+        HikariDataSource primary = pool(properties, properties.determineUrl(), "item-primary", environment);
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            if (StringUtils.hasText(url)) {
+                replicas.add(pool(properties, url.trim(), "item-replica-" + replicas.size(), environment));
+            }
+        }
+        return new ReplicaRoutingDataSource(
+                primary,
+                replicas,
+                maxLag,
+                lagCheckInterval,
+                StringUtils.hasText(lagQuery) ? lagQuery : ReplicaRoutingDataSource.DEFAULT_LAG_QUERY
+        );
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, String url, String poolName, Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName);
+        return dataSource;
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.fiap.postech.goodbuy.item.config;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+public class EntityLoadInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        RequestStatementStatistics estatisticas = RequestStatementStatistics.atual();
+        if (estatisticas != null) {
+            estatisticas.registraEntidadeCarregada();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.fiap.postech.goodbuy.item.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "item.hibernate-statistics.enabled", havingValue = "true")
+public class HibernateStatisticsConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateStatisticsCustomizer(
+            @Value("${item.hibernate-statistics.slow-query-threshold:200ms}") Duration slowQueryThreshold
+    ) {
+        return properties -> {
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(AvailableSettings.LOG_SLOW_QUERY, slowQueryThreshold.toMillis());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, StatementStatisticsSessionListener.class.getName());
+            properties.put(AvailableSettings.INTERCEPTOR, new EntityLoadInterceptor());
+        };
+    }
+
+    @Bean
+    public TaskDecorator statementStatisticsTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+
+    @Bean
+    public FilterRegistrationBean<StatementStatisticsFilter> statementStatisticsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${item.hibernate-statistics.max-statements:10}") long maxStatements
+    ) {
+        FilterRegistrationBean<StatementStatisticsFilter> registration = new FilterRegistrationBean<>(
+                new StatementStatisticsFilter(meterRegistry, maxStatements)
+        );
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.fiap.postech.goodbuy.item.config;
+
+import br.com.fiap.postech.goodbuy.item.dto.ItemFilterDTO;
+import br.com.fiap.postech.goodbuy.item.service.EstoqueInsuficienteException;
+import br.com.fiap.postech.goodbuy.item.service.ItemNaoEncontradoException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public class ItemMetricsInterceptor implements MethodInterceptor {
+    public static final String NOT_FOUND = "item.not-found";
+    public static final String VALIDATION_REJECTIONS = "item.validation.rejections";
+
+    private final String metrica;
+    private final boolean porFiltro;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ItemMetricsInterceptor(String metrica, boolean porFiltro, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.metrica = metrica;
+        this.porFiltro = porFiltro;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return invocation.proceed();
+        }
+        String operacao = invocation.getMethod().getName();
+        Timer.Sample sample = Timer.start(registry);
+        Object retorno;
+        try {
+            retorno = invocation.proceed();
+        } catch (Throwable throwable) {
+            registra(registry, sample, invocation, resultado(registry, operacao, throwable));
+            throw throwable;
+        }
+        if (retorno instanceof CompletableFuture<?> futuro) {
+            futuro.whenComplete((valor, exception) -> registra(registry, sample, invocation,
+                    exception == null ? "SUCCESS" : resultado(registry, operacao, causa(exception))));
+            return retorno;
+        }
+        registra(registry, sample, invocation, "SUCCESS");
+        return retorno;
+    }
+
+    private void registra(MeterRegistry registry, Timer.Sample sample, MethodInvocation invocation, String resultado) {
+        Timer.Builder timer = Timer.builder(metrica)
+                .tag("operation", invocation.getMethod().getName())
+                .tag("outcome", resultado)
+                .publishPercentileHistogram();
+        if (porFiltro) {
+            timer.tag("filter", formatoDoFiltro(invocation.getArguments()));
+        }
+        sample.stop(timer.register(registry));
+    }
+
+    private static String resultado(MeterRegistry registry, String operacao, Throwable throwable) {
+        if (throwable instanceof ItemNaoEncontradoException) {
+            registry.counter(NOT_FOUND, "operation", operacao).increment();
+            return "NOT_FOUND";
+        }
+        if (throwable instanceof IllegalArgumentException) {
+            registry.counter(VALIDATION_REJECTIONS, "operation", operacao).increment();
+            return "INVALID";
+        }
+        if (throwable instanceof OptimisticLockingFailureException || throwable instanceof EstoqueInsuficienteException) {
+            return "CONFLICT";
+        }
+        return "ERROR";
+    }
+
+    private static Throwable causa(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
+    static String formatoDoFiltro(Object[] argumentos) {
+        for (Object argumento : argumentos) {
+            if (argumento instanceof ItemFilterDTO filtro) {
+                StringJoiner campos = new StringJoiner("+");
+                adiciona(campos, "nome", filtro.nome());
+                adiciona(campos, "preco", filtro.preco());
+                adiciona(campos, "precoMin", filtro.precoMin());
+                adiciona(campos, "precoMax", filtro.precoMax());
+                adiciona(campos, "descricao", filtro.descricao());
+                adiciona(campos, "categoria", filtro.categoria());
+                adiciona(campos, "quantidadeMin", filtro.quantidadeMin());
+                adiciona(campos, "updatedSince", filtro.atualizadoDesde());
+                return campos.length() == 0 ? "none" : campos.toString();
+            }
+        }
+        return "none";
+    }
+
+    private static void adiciona(StringJoiner campos, String nome, Object valor) {
+        if (valor != null) {
+            campos.add(nome);
+        }
+    }
+}
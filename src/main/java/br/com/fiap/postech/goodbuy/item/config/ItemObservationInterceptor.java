@@ -0,0 +1,37 @@
+package br.com.fiap.postech.goodbuy.item.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+public class ItemObservationInterceptor implements MethodInterceptor {
+    private final String nome;
+    private final String componente;
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    public ItemObservationInterceptor(String nome, String componente, ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.nome = nome;
+        this.componente = componente;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        ObservationRegistry registry = observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP);
+        String operacao = invocation.getMethod().getName();
+        Observation observation = Observation.createNotStarted(nome, registry)
+                .contextualName(componente + "#" + operacao)
+                .lowCardinalityKeyValue("operation", operacao)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return invocation.proceed();
+        } catch (Throwable throwable) {
+            observation.error(throwable);
+            throw throwable;
+        } finally {
+            observation.stop();
+        }
+    }
+}
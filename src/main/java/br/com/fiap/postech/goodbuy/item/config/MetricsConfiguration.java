@@ -0,0 +1,46 @@
+package br.com.fiap.postech.goodbuy.item.config;
+
+import br.com.fiap.postech.goodbuy.item.repository.ItemRepository;
+import br.com.fiap.postech.goodbuy.item.service.ItemService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+import java.lang.reflect.Method;
+
+@Configuration
+public class MetricsConfiguration {
+    public static final String ITEM_SERVICE_TIMER = "item.service";
+    public static final String ITEM_REPOSITORY_TIMER = "item.repository";
+    public static final int METRICS_ORDER = TracingConfiguration.TRACING_ORDER + 1;
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor itemServiceMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return advisor(ItemService.class, new ItemMetricsInterceptor(ITEM_SERVICE_TIMER, true, meterRegistry), METRICS_ORDER);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor itemRepositoryMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return advisor(ItemRepository.class, new ItemMetricsInterceptor(ITEM_REPOSITORY_TIMER, false, meterRegistry), METRICS_ORDER);
+    }
+
+    static Advisor advisor(Class<?> tipo, MethodInterceptor interceptor, int ordem) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return tipo.isAssignableFrom(targetClass) && method.getDeclaringClass() != Object.class;
+            }
+        }, interceptor);
+        advisor.setOrder(ordem);
+        return advisor;
+    }
+}
@@ -0,0 +1,161 @@
+package br.com.fiap.postech.goodbuy.item.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+    public static final String PRIMARY = "primary";
+    public static final String DEFAULT_LAG_QUERY = "select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0 "
+            + "else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0) end";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    private static final Object LEITURA_EM_REPLICA = ReplicaRoutingDataSource.class.getName() + ".LEITURA_EM_REPLICA";
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final Duration maxLag;
+    private final Duration lagCheckInterval;
+    private final String lagQuery;
+    private final AtomicInteger proxima = new AtomicInteger();
+    private volatile List<String> disponiveis = List.of();
+    private ScheduledExecutorService verificador;
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            List<DataSource> replicas,
+            Duration maxLag,
+            Duration lagCheckInterval,
+            String lagQuery
+    ) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+        this.lagCheckInterval = lagCheckInterval;
+        this.lagQuery = lagQuery;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(replicaKey(i), this.replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        verificaAtraso();
+        if (!replicas.isEmpty() && !lagCheckInterval.isZero()) {
+            verificador = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "item-replica-lag");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalo = lagCheckInterval.toMillis();
+            verificador.scheduleWithFixedDelay(this::verificaAtraso, intervalo, intervalo, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        List<String> atuais = disponiveis;
+        if (atuais.isEmpty()) {
+            return PRIMARY;
+        }
+        String replica = atuais.get(Math.floorMod(proxima.getAndIncrement(), atuais.size()));
+        registraLeituraEmReplica(replica);
+        return replica;
+    }
+
+    public static boolean isLeituraEmReplica() {
+        return TransactionSynchronizationManager.hasResource(LEITURA_EM_REPLICA);
+    }
+
+    private static void registraLeituraEmReplica(String replica) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || isLeituraEmReplica()) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(LEITURA_EM_REPLICA, replica);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(LEITURA_EM_REPLICA);
+            }
+        });
+    }
+
+    List<String> getDisponiveis() {
+        return disponiveis;
+    }
+
+    void verificaAtraso() {
+        List<String> saudaveis = new ArrayList<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            try {
+                Duration atraso = consultaAtraso(replicas.get(i));
+                if (atraso.compareTo(maxLag) <= 0) {
+                    saudaveis.add(replicaKey(i));
+                } else {
+                    LOGGER.warn("Réplica {} ignorada: atraso de {} acima do limite de {}.", replicaKey(i), atraso, maxLag);
+                }
+            } catch (SQLException | RuntimeException exception) {
+                LOGGER.warn("Réplica {} ignorada: falha ao consultar o atraso.", replicaKey(i), exception);
+            }
+        }
+        disponiveis = List.copyOf(saudaveis);
+    }
+
+    private Duration consultaAtraso(DataSource replica) throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                throw new SQLException("Consulta de atraso da réplica não retornou resultado.");
+            }
+            return Duration.ofMillis(Math.round(resultSet.getDouble(1) * 1000));
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (verificador != null) {
+            verificador.shutdownNow();
+        }
+        for (DataSource replica : replicas) {
+            fecha(replica);
+        }
+        fecha(primary);
+    }
+
+    private static void fecha(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static String replicaKey(int indice) {
+        return "replica-" + indice;
+    }
+}
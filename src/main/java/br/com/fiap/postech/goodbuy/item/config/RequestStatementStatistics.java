@@ -0,0 +1,57 @@
+package br.com.fiap.postech.goodbuy.item.config;
+
+import io.micrometer.context.ContextRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+public class RequestStatementStatistics {
+    public static final String CONTEXT_KEY = "item.request.statement-statistics";
+    private static final ThreadLocal<RequestStatementStatistics> ATUAL = new ThreadLocal<>();
+
+    static {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(CONTEXT_KEY, ATUAL::get, ATUAL::set, ATUAL::remove);
+    }
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder jdbcNanos = new LongAdder();
+    private final LongAdder entidadesCarregadas = new LongAdder();
+
+    static RequestStatementStatistics inicia() {
+        RequestStatementStatistics estatisticas = new RequestStatementStatistics();
+        ATUAL.set(estatisticas);
+        return estatisticas;
+    }
+
+    static void encerra() {
+        ATUAL.remove();
+    }
+
+    static RequestStatementStatistics atual() {
+        return ATUAL.get();
+    }
+
+    void registraStatement() {
+        statements.increment();
+    }
+
+    void registraJdbc(long nanos) {
+        jdbcNanos.add(nanos);
+    }
+
+    void registraEntidadeCarregada() {
+        entidadesCarregadas.increment();
+    }
+
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    public Duration getTempoJdbc() {
+        return Duration.ofNanos(jdbcNanos.sum());
+    }
+
+    public long getEntidadesCarregadas() {
+        return entidadesCarregadas.sum();
+    }
+}
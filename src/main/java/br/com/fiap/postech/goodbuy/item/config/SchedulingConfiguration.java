@@ -0,0 +1,11 @@
+package br.com.fiap.postech.goodbuy.item.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "item.changes.compaction.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfiguration {
+}
@@ -0,0 +1,97 @@
+package br.com.fiap.postech.goodbuy.item.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+public class StatementStatisticsFilter extends OncePerRequestFilter {
+    public static final String STATEMENTS = "item.request.statements";
+    public static final String JDBC_TIME = "item.request.jdbc";
+    public static final String ENTITIES_LOADED = "item.request.entities.loaded";
+    public static final String STATEMENTS_EXCEEDED = "item.request.statements.exceeded";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatementStatisticsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final long maxStatements;
+
+    public StatementStatisticsFilter(MeterRegistry meterRegistry, long maxStatements) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestStatementStatistics estatisticas = RequestStatementStatistics.inicia();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestStatementStatistics.encerra();
+            Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String method = request.getMethod();
+            String uri = padrao != null ? padrao.toString() : "UNKNOWN";
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        registra(method, uri, estatisticas);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                registra(method, uri, estatisticas);
+            }
+        }
+    }
+
+    private void registra(String method, String uri, RequestStatementStatistics estatisticas) {
+        Tags tags = Tags.of("method", method, "uri", uri);
+        DistributionSummary.builder(STATEMENTS)
+                .baseUnit("statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(estatisticas.getStatements());
+        meterRegistry.timer(JDBC_TIME, tags).record(estatisticas.getTempoJdbc());
+        DistributionSummary.builder(ENTITIES_LOADED)
+                .baseUnit("entities")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(estatisticas.getEntidadesCarregadas());
+        if (estatisticas.getStatements() > maxStatements) {
+            meterRegistry.counter(STATEMENTS_EXCEEDED, tags).increment();
+            LOGGER.warn(
+                    "Requisição {} {} executou {} statements ({} ms de JDBC, {} entidades carregadas), acima do limite de {}.",
+                    method,
+                    uri,
+                    estatisticas.getStatements(),
+                    estatisticas.getTempoJdbc().toMillis(),
+                    estatisticas.getEntidadesCarregadas(),
+                    maxStatements
+            );
+        }
+    }
+}
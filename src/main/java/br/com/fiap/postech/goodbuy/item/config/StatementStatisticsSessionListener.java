@@ -0,0 +1,42 @@
+package br.com.fiap.postech.goodbuy.item.config;
+
+import org.hibernate.SessionEventListener;
+
+public class StatementStatisticsSessionListener implements SessionEventListener {
+    private long inicioExecucao;
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        RequestStatementStatistics estatisticas = RequestStatementStatistics.atual();
+        if (estatisticas != null) {
+            estatisticas.registraStatement();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        inicioExecucao = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        registraExecucao();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        inicioExecucao = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        registraExecucao();
+    }
+
+    private void registraExecucao() {
+        RequestStatementStatistics estatisticas = RequestStatementStatistics.atual();
+        if (estatisticas != null) {
+            estatisticas.registraJdbc(System.nanoTime() - inicioExecucao);
+        }
+    }
+}
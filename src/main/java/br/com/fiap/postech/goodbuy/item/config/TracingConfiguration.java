@@ -0,0 +1,42 @@
+package br.com.fiap.postech.goodbuy.item.config;
+
+import br.com.fiap.postech.goodbuy.item.service.ItemService;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.aop.Advisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class TracingConfiguration {
+    public static final String ITEM_SERVICE_OBSERVATION = "item.service.call";
+    public static final int TRACING_ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor itemServiceObservationAdvisor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        return MetricsConfiguration.advisor(
+                ItemService.class,
+                new ItemObservationInterceptor(ITEM_SERVICE_OBSERVATION, "ItemService", observationRegistry),
+                TRACING_ORDER
+        );
+    }
+
+    @Bean
+    public MeterFilter itemServiceObservationMeterFilter() {
+        return MeterFilter.deny(id -> id.getName().startsWith(ITEM_SERVICE_OBSERVATION));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "item.tracing.logging-exporter.enabled", havingValue = "true")
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
@@ -1,30 +1,62 @@
 package br.com.fiap.postech.goodbuy.item.controller;
 
+import br.com.fiap.postech.goodbuy.item.dto.ItemFilterDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemImportResultDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemMatchMode;
+import br.com.fiap.postech.goodbuy.item.dto.ItemStockDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemStockRequestDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemStockStatus;
 import br.com.fiap.postech.goodbuy.item.entity.Item;
+import br.com.fiap.postech.goodbuy.item.service.EstoqueInsuficienteException;
 import br.com.fiap.postech.goodbuy.item.service.ItemService;
+import br.com.fiap.postech.goodbuy.item.service.ItemServiceImpl;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @Service
 @RequestMapping("/item")
 public class ItemController {
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    public static final Set<String> SORT_PROPERTIES = Set.of("nome", "preco", "categoria", "quantidade");
+    public static final Duration CHANGES_TIMEOUT_MARGIN = Duration.ofSeconds(10);
+
     private final ItemService itemService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public ItemController(ItemService itemService) {
+    public ItemController(ItemService itemService, ObjectMapper objectMapper) {
         this.itemService = itemService;
+        this.objectMapper = objectMapper;
     }
 
     @Operation(summary = "registra um item")
@@ -35,31 +67,201 @@ public class ItemController {
         return new ResponseEntity<>(savedItemDTO, HttpStatus.CREATED);
     }
 
+    @Operation(summary = "registra items em lote")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(
+            value = "/bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<ItemImportResultDTO> saveAll(@RequestBody List<Item> items) {
+        return ResponseEntity.ok(itemService.saveAll(items.iterator()));
+    }
+
+    @Operation(summary = "registra items em lote a partir de um stream NDJSON")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(
+            value = "/bulk",
+            consumes = APPLICATION_NDJSON_VALUE
+    )
+    public ResponseEntity<ItemImportResultDTO> saveAll(InputStream inputStream) {
+        return ResponseEntity.ok(itemService.saveAll(new ItemNdjsonIterator(objectMapper.readerFor(Item.class), inputStream)));
+    }
+
     @Operation(summary = "lista todos os items")
     @GetMapping(
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<Page<Item>> findAll(
+    public ResponseEntity<?> findAll(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String nome,
             @RequestParam(required = false) Double preco,
+            @RequestParam(required = false) Double precoMin,
+            @RequestParam(required = false) Double precoMax,
+            @RequestParam(required = false) String descricao,
+            @RequestParam(required = false) String categoria,
+            @RequestParam(required = false) Long quantidadeMin,
+            @RequestParam(defaultValue = "EXACT") ItemMatchMode nomeMatch,
+            @RequestParam(defaultValue = "EXACT") ItemMatchMode descricaoMatch,
+            @RequestParam(defaultValue = "false") boolean ignoreCase,
+            @RequestParam(required = false) Instant updatedSince,
+            @RequestParam(required = false) List<String> sort,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestParam(required = false) List<String> fields
+    ) {
+        try {
+            var filtro = new ItemFilterDTO(
+                    nome, nomeMatch, preco, precoMin, precoMax, descricao, descricaoMatch, categoria, quantidadeMin, ignoreCase, updatedSince
+            );
+            var pageable = PageRequest.of(page, size, toSort(sort));
+            Slice<?> items;
+            if (fields == null || fields.isEmpty()) {
+                items = withTotal
+                        ? itemService.findAll(pageable, filtro)
+                        : itemService.findSlice(pageable, filtro);
+            } else {
+                items = withTotal
+                        ? itemService.findAll(pageable, filtro, fields)
+                        : itemService.findSlice(pageable, filtro, fields);
+            }
+            return ResponseEntity.ok().eTag(ItemETag.of(items)).body(items);
+        } catch (IllegalArgumentException exception) {
+            return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Operation(summary = "busca items por texto em nome, descricao e categoria")
+    @GetMapping(
+            value = "/search",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<?> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        try {
+            return ResponseEntity.ok(itemService.search(q, PageRequest.of(page, size)));
+        } catch (IllegalArgumentException exception) {
+            return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Operation(summary = "lista todos os items navegando por cursor")
+    @GetMapping(
+            value = "/scroll",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<?> scroll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String nome,
+            @RequestParam(required = false) Double preco,
             @RequestParam(required = false) String descricao,
             @RequestParam(required = false) String categoria
     ) {
         Item item = new Item(nome, preco, descricao, categoria, null, null);
-        item.setId(null);
-        var pageable = PageRequest.of(page, size);
-        var items = itemService.findAll(pageable, item);
-        return new ResponseEntity<>(items, HttpStatus.OK);
+        try {
+            return ResponseEntity.ok(itemService.scroll(cursor, size, item));
+        } catch (IllegalArgumentException exception) {
+            return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Operation(summary = "lista os items de uma lista de ids")
+    @GetMapping(
+            value = "/batch",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<?> findAllById(@RequestParam List<UUID> ids) {
+        try {
+            return ResponseEntity.ok(itemService.findAllById(ids));
+        } catch (IllegalArgumentException exception) {
+            return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Operation(summary = "lista os items de uma lista de ids enviada no corpo da requisição")
+    @PostMapping(
+            value = "/batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<?> findAllByIdNoCorpo(@RequestBody List<UUID> ids) {
+        try {
+            return ResponseEntity.ok(itemService.findAllById(ids));
+        } catch (IllegalArgumentException exception) {
+            return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Operation(summary = "exporta todos os items em NDJSON")
+    @GetMapping(
+            value = "/export",
+            produces = APPLICATION_NDJSON_VALUE
+    )
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) String categoria,
+            @RequestParam(required = false) Instant updatedSince
+    ) {
+        ObjectWriter writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> itemService.export(categoria, updatedSince, item -> {
+            try {
+                writer.writeValue(outputStream, item);
+                outputStream.write('\n');
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    @Operation(summary = "lista as alterações de items a partir de uma posição do feed, aguardando novas alterações por até wait segundos")
+    @GetMapping(
+            value = "/changes",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public DeferredResult<ResponseEntity<?>> findChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "0") long wait
+    ) {
+        DeferredResult<ResponseEntity<?>> resultado = new DeferredResult<>(
+                CHANGES_TIMEOUT_MARGIN.plusSeconds(Math.clamp(wait, 0L, ItemServiceImpl.MAX_CHANGES_WAIT.toSeconds())).toMillis()
+        );
+        try {
+            itemService.findChanges(since, limit, Duration.ofSeconds(wait)).whenComplete((alteracoes, exception) -> {
+                if (exception != null) {
+                    resultado.setErrorResult(exception instanceof CompletionException ? exception.getCause() : exception);
+                } else {
+                    resultado.setResult(ResponseEntity.ok(alteracoes));
+                }
+            });
+        } catch (IllegalArgumentException exception) {
+            resultado.setResult(new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST));
+        }
+        return resultado;
     }
 
     @Operation(summary = "lista um item por seu id")
     @GetMapping("/{id}")
-    public ResponseEntity<?> findById(@PathVariable UUID id) {
+    public ResponseEntity<?> findById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
         try {
+            if (ifNoneMatch != null) {
+                String etag = ItemETag.of(itemService.findVersaoById(id));
+                if (ItemETag.matches(ifNoneMatch, etag)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+                }
+            }
             Item item = itemService.findById(id);
-            return ResponseEntity.ok(item);
+            return ResponseEntity.ok().eTag(ItemETag.of(item)).body(item);
         } catch (IllegalArgumentException exception) {
             return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
         }
@@ -68,10 +270,20 @@ public class ItemController {
     @Operation(summary = "altera um item por seu id")
     @PreAuthorize("hasRole('ADMIN')")
     @PutMapping("/{id}")
-    public ResponseEntity<?> update(@PathVariable UUID id, @Valid @RequestBody Item itemDTO) {
+    public ResponseEntity<?> update(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody Item itemDTO
+    ) {
         try {
+            if (ifMatch != null) {
+                itemDTO.setVersao(ItemETag.versao(ifMatch));
+            }
             Item updatedItem = itemService.update(id, itemDTO);
-            return new ResponseEntity<>(updatedItem, HttpStatus.ACCEPTED);
+            return ResponseEntity.accepted().eTag(ItemETag.of(updatedItem)).body(updatedItem);
+        } catch (OptimisticLockingFailureException exception) {
+            HttpStatus status = ifMatch != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT;
+            return new ResponseEntity<>(exception.getMessage(), status);
         } catch (IllegalArgumentException exception) {
             return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
         }
@@ -89,4 +301,55 @@ public class ItemController {
             return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
         }
     }
+
+    @Operation(summary = "reserva estoque de um item")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{id}/stock/decrement")
+    public ResponseEntity<?> decrementaEstoque(@PathVariable UUID id, @RequestParam long quantidade) {
+        try {
+            ItemStockDTO itemStock = itemService.decrementaEstoque(id, quantidade);
+            var status = itemStock.status() == ItemStockStatus.RESERVED ? HttpStatus.OK : HttpStatus.CONFLICT;
+            return new ResponseEntity<>(itemStock, status);
+        } catch (IllegalArgumentException exception) {
+            return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Operation(summary = "reserva estoque de varios items de uma vez")
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/stock/decrement")
+    public ResponseEntity<?> decrementaEstoque(@RequestBody List<ItemStockRequestDTO> items) {
+        try {
+            return ResponseEntity.ok(itemService.decrementaEstoque(items));
+        } catch (EstoqueInsuficienteException exception) {
+            return new ResponseEntity<>(exception.getResultado(), HttpStatus.CONFLICT);
+        } catch (IllegalArgumentException exception) {
+            return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private static Sort toSort(List<String> sort) {
+        if (sort == null || sort.isEmpty()) {
+            return Sort.unsorted();
+        }
+        List<Sort.Order> orders = new ArrayList<>();
+        String[] partes = String.join(",", sort).split(",");
+        for (int i = 0; i < partes.length; i++) {
+            String propriedade = partes[i].trim();
+            if (!SORT_PROPERTIES.contains(propriedade)) {
+                throw new IllegalArgumentException("Não é possível ordenar por: " + propriedade + ".");
+            }
+            Sort.Direction direcao = Sort.Direction.ASC;
+            if (i + 1 < partes.length) {
+                var direcaoInformada = Sort.Direction.fromOptionalString(partes[i + 1].trim());
+                if (direcaoInformada.isPresent()) {
+                    direcao = direcaoInformada.get();
+                    i++;
+                }
+            }
+            orders.add(new Sort.Order(direcao, propriedade));
+        }
+        orders.add(Sort.Order.asc("id"));
+        return Sort.by(orders);
+    }
 }
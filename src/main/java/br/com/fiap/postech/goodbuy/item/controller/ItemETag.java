@@ -0,0 +1,81 @@
+package br.com.fiap.postech.goodbuy.item.controller;
+
+import br.com.fiap.postech.goodbuy.item.entity.Item;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+final class ItemETag {
+    static final String ANY = "*";
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private ItemETag() {
+    }
+
+    static String of(Item item) {
+        return item == null ? null : of(item.getVersao());
+    }
+
+    static String of(Long versao) {
+        if (versao == null) {
+            return null;
+        }
+        return "\"" + versao + "\"";
+    }
+
+    static String of(Slice<?> slice) {
+        if (slice == null) {
+            return null;
+        }
+        StringBuilder valor = new StringBuilder()
+                .append(slice.getNumber()).append(':')
+                .append(slice.getSize()).append(':')
+                .append(slice.hasNext());
+        if (slice instanceof Page<?> page) {
+            valor.append(':').append(page.getTotalElements());
+        }
+        for (Object elemento : slice.getContent()) {
+            valor.append('|');
+            if (elemento instanceof Item item) {
+                valor.append(item.getId()).append(':').append(item.getVersao());
+            } else {
+                valor.append(elemento);
+            }
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(valor.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    static Long versao(String ifMatch) {
+        String valor = ifMatch.trim();
+        if (ANY.equals(valor)) {
+            return null;
+        }
+        if (valor.length() < 3 || !valor.startsWith("\"") || !valor.endsWith("\"")) {
+            throw new IllegalArgumentException("Cabeçalho If-Match inválido.");
+        }
+        try {
+            return Long.valueOf(valor.substring(1, valor.length() - 1));
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Cabeçalho If-Match inválido.");
+        }
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidato : ifNoneMatch.split(",")) {
+            String valor = candidato.trim();
+            if (valor.startsWith(WEAK_PREFIX)) {
+                valor = valor.substring(WEAK_PREFIX.length());
+            }
+            if (ANY.equals(valor) || etag.equals(valor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
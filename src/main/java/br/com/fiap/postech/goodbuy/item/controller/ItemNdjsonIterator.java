@@ -0,0 +1,57 @@
+package br.com.fiap.postech.goodbuy.item.controller;
+
+import br.com.fiap.postech.goodbuy.item.entity.Item;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+class ItemNdjsonIterator implements Iterator<Item> {
+    private final ObjectReader reader;
+    private final BufferedReader linhas;
+    private String proxima;
+
+    ItemNdjsonIterator(ObjectReader reader, InputStream inputStream) {
+        this.reader = reader;
+        this.linhas = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (proxima == null) {
+                String linha = linhas.readLine();
+                if (linha == null) {
+                    return false;
+                }
+                if (!linha.isBlank()) {
+                    proxima = linha;
+                }
+            }
+            return true;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Override
+    public Item next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String linha = proxima;
+        proxima = null;
+        try {
+            return reader.readValue(linha);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalArgumentException("JSON inválido: " + exception.getOriginalMessage());
+        }
+    }
+}
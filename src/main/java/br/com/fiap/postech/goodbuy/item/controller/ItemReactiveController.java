@@ -0,0 +1,71 @@
+package br.com.fiap.postech.goodbuy.item.controller;
+
+import br.com.fiap.postech.goodbuy.item.entity.ItemReadModel;
+import br.com.fiap.postech.goodbuy.item.service.ItemReactiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/item/reactive")
+public class ItemReactiveController {
+    private final ItemReactiveService itemReactiveService;
+
+    @Autowired
+    public ItemReactiveController(ItemReactiveService itemReactiveService) {
+        this.itemReactiveService = itemReactiveService;
+    }
+
+    @Operation(summary = "lista todos os items de forma não bloqueante")
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, ItemController.APPLICATION_NDJSON_VALUE})
+    public Flux<ItemReadModel> findAll(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String categoria
+    ) {
+        return itemReactiveService.findAll(PageRequest.of(page, size, Sort.by("nome", "id")), categoria);
+    }
+
+    @Operation(summary = "transmite todos os items em NDJSON respeitando a demanda do cliente")
+    @GetMapping(value = "/stream", produces = ItemController.APPLICATION_NDJSON_VALUE)
+    public Flux<ItemReadModel> stream(@RequestParam(required = false) String categoria) {
+        return itemReactiveService.stream(categoria);
+    }
+
+    @Operation(summary = "busca varios items por seus ids de forma não bloqueante")
+    @GetMapping(value = "/batch", produces = {MediaType.APPLICATION_JSON_VALUE, ItemController.APPLICATION_NDJSON_VALUE})
+    public Flux<ItemReadModel> findAllById(@RequestParam List<UUID> ids) {
+        return itemReactiveService.findAllById(ids);
+    }
+
+    @Operation(summary = "busca varios items por seus ids enviados no corpo da requisição de forma não bloqueante")
+    @PostMapping(
+            value = "/batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = {MediaType.APPLICATION_JSON_VALUE, ItemController.APPLICATION_NDJSON_VALUE}
+    )
+    public Flux<ItemReadModel> findAllByIdNoCorpo(@RequestBody List<UUID> ids) {
+        return itemReactiveService.findAllById(ids);
+    }
+
+    @Operation(summary = "busca um item por seu id de forma não bloqueante")
+    @GetMapping("/{id}")
+    public Mono<ItemReadModel> findById(@PathVariable UUID id) {
+        return itemReactiveService.findById(id);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException exception) {
+        return new ResponseEntity<>(exception.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.fiap.postech.goodbuy.item.dto;
+
+import br.com.fiap.postech.goodbuy.item.entity.Item;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ItemBatchDTO(List<Item> items, List<UUID> missingIds) {
+}
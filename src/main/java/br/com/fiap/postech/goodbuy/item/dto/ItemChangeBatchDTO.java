@@ -0,0 +1,6 @@
+package br.com.fiap.postech.goodbuy.item.dto;
+
+import java.util.List;
+
+public record ItemChangeBatchDTO(List<ItemChangeDTO> changes, long nextSince, boolean hasNext) {
+}
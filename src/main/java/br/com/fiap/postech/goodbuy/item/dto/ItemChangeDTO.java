@@ -0,0 +1,10 @@
+package br.com.fiap.postech.goodbuy.item.dto;
+
+import br.com.fiap.postech.goodbuy.item.entity.Item;
+import br.com.fiap.postech.goodbuy.item.entity.ItemChangeOperation;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ItemChangeDTO(long sequencia, UUID id, ItemChangeOperation operacao, Instant ocorridoEm, Item item) {
+}
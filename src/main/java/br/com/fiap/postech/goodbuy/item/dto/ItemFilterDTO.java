@@ -0,0 +1,58 @@
+package br.com.fiap.postech.goodbuy.item.dto;
+
+import br.com.fiap.postech.goodbuy.item.entity.Item;
+
+import java.time.Instant;
+
+public record ItemFilterDTO(
+        String nome,
+        ItemMatchMode nomeMatch,
+        Double preco,
+        Double precoMin,
+        Double precoMax,
+        String descricao,
+        ItemMatchMode descricaoMatch,
+        String categoria,
+        Long quantidadeMin,
+        boolean ignoreCase,
+        Instant atualizadoDesde
+) {
+    public ItemFilterDTO {
+        nomeMatch = nomeMatch != null ? nomeMatch : ItemMatchMode.EXACT;
+        descricaoMatch = descricaoMatch != null ? descricaoMatch : ItemMatchMode.EXACT;
+    }
+
+    public ItemFilterDTO(
+            String nome,
+            ItemMatchMode nomeMatch,
+            Double preco,
+            Double precoMin,
+            Double precoMax,
+            String descricao,
+            ItemMatchMode descricaoMatch,
+            String categoria,
+            Long quantidadeMin,
+            boolean ignoreCase
+    ) {
+        this(nome, nomeMatch, preco, precoMin, precoMax, descricao, descricaoMatch, categoria, quantidadeMin, ignoreCase, null);
+    }
+
+    public static ItemFilterDTO of(Item item) {
+        return new ItemFilterDTO(
+                item.getNome(),
+                ItemMatchMode.EXACT,
+                item.getPreco(),
+                null,
+                null,
+                item.getDescricao(),
+                ItemMatchMode.EXACT,
+                item.getCategoria(),
+                null,
+                false
+        );
+    }
+
+    public Item toProbe() {
+        return new Item(nome, preco, descricao, categoria, null, null);
+    }
+}
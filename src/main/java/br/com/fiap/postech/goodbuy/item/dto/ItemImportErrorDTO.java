@@ -0,0 +1,4 @@
+package br.com.fiap.postech.goodbuy.item.dto;
+
+public record ItemImportErrorDTO(long line, String nome, String message) {
+}
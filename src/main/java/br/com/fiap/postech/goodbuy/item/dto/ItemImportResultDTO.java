@@ -0,0 +1,6 @@
+package br.com.fiap.postech.goodbuy.item.dto;
+
+import java.util.List;
+
+public record ItemImportResultDTO(long total, long imported, List<ItemImportErrorDTO> errors) {
+}
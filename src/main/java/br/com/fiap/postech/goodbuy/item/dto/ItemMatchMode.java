@@ -0,0 +1,7 @@
+package br.com.fiap.postech.goodbuy.item.dto;
+
+public enum ItemMatchMode {
+    EXACT,
+    PREFIX,
+    CONTAINS
+}
@@ -0,0 +1,8 @@
+package br.com.fiap.postech.goodbuy.item.dto;
+
+import br.com.fiap.postech.goodbuy.item.entity.Item;
+
+import java.util.List;
+
+public record ItemScrollDTO(List<Item> content, int size, boolean hasNext, String nextCursor) {
+}
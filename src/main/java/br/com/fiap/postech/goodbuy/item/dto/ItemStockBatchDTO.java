@@ -0,0 +1,6 @@
+package br.com.fiap.postech.goodbuy.item.dto;
+
+import java.util.List;
+
+public record ItemStockBatchDTO(ItemStockStatus status, List<ItemStockDTO> items) {
+}
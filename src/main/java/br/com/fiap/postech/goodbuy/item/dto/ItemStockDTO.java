@@ -0,0 +1,6 @@
+package br.com.fiap.postech.goodbuy.item.dto;
+
+import java.util.UUID;
+
+public record ItemStockDTO(UUID id, Long quantidade, ItemStockStatus status) {
+}
@@ -0,0 +1,6 @@
+package br.com.fiap.postech.goodbuy.item.dto;
+
+import java.util.UUID;
+
+public record ItemStockRequestDTO(UUID id, Long quantidade) {
+}
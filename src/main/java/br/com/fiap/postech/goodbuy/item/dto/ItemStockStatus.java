@@ -0,0 +1,6 @@
+package br.com.fiap.postech.goodbuy.item.dto;
+
+public enum ItemStockStatus {
+    RESERVED,
+    INSUFFICIENT_STOCK
+}
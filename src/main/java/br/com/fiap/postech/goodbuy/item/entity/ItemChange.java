@@ -0,0 +1,100 @@
+package br.com.fiap.postech.goodbuy.item.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+@Entity
+@Table(name = "tb_item_change")
+public class ItemChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sq_item_change")
+    @SequenceGenerator(name = "sq_item_change", sequenceName = "sq_item_change", allocationSize = 50)
+    @Column(name = "sequencia", nullable = false)
+    private Long sequencia;
+    @Column(name = "posicao")
+    private Long posicao;
+    @Column(name = "item_id", nullable = false)
+    private UUID itemId;
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "operacao", nullable = false, length = 16)
+    private ItemChangeOperation operacao;
+    @Column(name = "ocorrido_em", nullable = false)
+    private Instant ocorridoEm;
+
+    public ItemChange() {
+        super();
+    }
+
+    public ItemChange(UUID itemId, ItemChangeOperation operacao) {
+        this();
+        this.itemId = itemId;
+        this.operacao = operacao;
+        this.ocorridoEm = Instant.now();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ItemChange that)) return false;
+        return Objects.equals(sequencia, that.sequencia);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(sequencia);
+    }
+
+    public Long getSequencia() {
+        return sequencia;
+    }
+
+    public void setSequencia(Long sequencia) {
+        this.sequencia = sequencia;
+    }
+
+    public Long getPosicao() {
+        return posicao;
+    }
+
+    public void setPosicao(Long posicao) {
+        this.posicao = posicao;
+    }
+
+    public UUID getItemId() {
+        return itemId;
+    }
+
+    public void setItemId(UUID itemId) {
+        this.itemId = itemId;
+    }
+
+    public ItemChangeOperation getOperacao() {
+        return operacao;
+    }
+
+    public void setOperacao(ItemChangeOperation operacao) {
+        this.operacao = operacao;
+    }
+
+    public Instant getOcorridoEm() {
+        return ocorridoEm;
+    }
+
+    public void setOcorridoEm(Instant ocorridoEm) {
+        this.ocorridoEm = ocorridoEm;
+    }
+}
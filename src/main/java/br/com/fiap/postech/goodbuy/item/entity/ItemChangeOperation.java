@@ -0,0 +1,7 @@
+package br.com.fiap.postech.goodbuy.item.entity;
+
+public enum ItemChangeOperation {
+    CREATED,
+    UPDATED,
+    DELETED
+}
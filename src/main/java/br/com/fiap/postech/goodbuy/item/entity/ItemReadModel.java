@@ -0,0 +1,22 @@
+package br.com.fiap.postech.goodbuy.item.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Table("tb_item")
+public record ItemReadModel(
+        @Id UUID id,
+        String nome,
+        Double preco,
+        String descricao,
+        String categoria,
+        String urlImagem,
+        Long quantidade,
+        Long versao,
+        Instant criadoEm,
+        Instant atualizadoEm
+) {
+}
@@ -0,0 +1,28 @@
+package br.com.fiap.postech.goodbuy.item.repository;
+
+import br.com.fiap.postech.goodbuy.item.entity.ItemChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ItemChangeRepository extends JpaRepository<ItemChange, Long> {
+
+    List<ItemChange> findByPosicaoGreaterThanOrderByPosicao(long posicao, Limit limit);
+
+    List<ItemChange> findByPosicaoIsNullOrderBySequencia(Limit limit);
+
+    @Query(value = "select valor from tb_item_change_posicao where id = 1 for update", nativeQuery = true)
+    long travaUltimaPosicao();
+
+    @Modifying
+    @Query(value = "update tb_item_change_posicao set valor = :valor where id = 1", nativeQuery = true)
+    int atualizaUltimaPosicao(@Param("valor") long valor);
+
+    @Modifying
+    @Query("delete from ItemChange c where c.posicao is not null and exists (select 1 from ItemChange n where n.itemId = c.itemId and n.posicao > c.posicao)")
+    int compacta();
+}
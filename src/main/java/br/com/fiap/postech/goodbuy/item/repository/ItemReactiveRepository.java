@@ -0,0 +1,22 @@
+package br.com.fiap.postech.goodbuy.item.repository;
+
+import br.com.fiap.postech.goodbuy.item.entity.ItemReadModel;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+public interface ItemReactiveRepository extends R2dbcRepository<ItemReadModel, UUID> {
+
+    Flux<ItemReadModel> findAllBy(Pageable pageable);
+
+    Flux<ItemReadModel> findByCategoria(String categoria, Pageable pageable);
+
+    @Query("select * from tb_item order by nome, id")
+    Flux<ItemReadModel> streamAll();
+
+    @Query("select * from tb_item where categoria = :categoria order by nome, id")
+    Flux<ItemReadModel> streamByCategoria(String categoria);
+}
@@ -2,11 +2,28 @@ package br.com.fiap.postech.goodbuy.item.repository;
 
 import br.com.fiap.postech.goodbuy.item.entity.Item;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
-public interface ItemRepository extends JpaRepository<Item, UUID> {
+public interface ItemRepository extends JpaRepository<Item, UUID>, JpaSpecificationExecutor<Item>,
+        ItemRepositoryCustom, ItemSearchRepository {
 
     Optional<Item> findByNome(String nome);
+
+    boolean existsByNomeAndIdNot(String nome, UUID id);
+
+    @Query("select i.nome from Item i where i.nome in :nomes")
+    Set<String> findNomesExistentes(@Param("nomes") Collection<String> nomes);
+
+    @Query("select i.versao from Item i where i.id = :id")
+    Optional<Long> findVersaoById(@Param("id") UUID id);
+
+    @Query("select i.quantidade from Item i where i.id = :id")
+    Optional<Long> findQuantidadeById(@Param("id") UUID id);
 }
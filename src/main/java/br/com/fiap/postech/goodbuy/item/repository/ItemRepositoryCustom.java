@@ -0,0 +1,28 @@
+package br.com.fiap.postech.goodbuy.item.repository;
+
+import br.com.fiap.postech.goodbuy.item.entity.Item;
+import br.com.fiap.postech.goodbuy.item.entity.ItemReadModel;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface ItemRepositoryCustom {
+
+    void persistAll(List<Item> items);
+
+    Slice<Item> findSlice(Specification<Item> specification, Pageable pageable);
+
+    Slice<Map<String, Object>> findSlice(Specification<Item> specification, Pageable pageable, Collection<String> campos);
+
+    Optional<Long> reservaQuantidade(UUID id, long quantidade, Instant atualizadoEm);
+
+    Stream<ItemReadModel> streamForExport(String categoria, Instant atualizadoDesde);
+}
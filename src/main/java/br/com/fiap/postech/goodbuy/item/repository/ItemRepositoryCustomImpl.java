@@ -0,0 +1,183 @@
+package br.com.fiap.postech.goodbuy.item.repository;
+
+import br.com.fiap.postech.goodbuy.item.entity.Item;
+import br.com.fiap.postech.goodbuy.item.entity.ItemChange;
+import br.com.fiap.postech.goodbuy.item.entity.ItemChangeOperation;
+import br.com.fiap.postech.goodbuy.item.entity.ItemReadModel;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
+    private static final int EXPORT_FETCH_SIZE = 500;
+    private static final String POSTGRES_RESERVA = """
+            update tb_item set quantidade = quantidade - :quantidade, versao = versao + 1, atualizado_em = :atualizadoEm
+            where id = :id and quantidade >= :quantidade
+            returning quantidade
+            """;
+    private static final String RESERVA = "update Item i set i.quantidade = i.quantidade - :quantidade, i.versao = i.versao + 1, "
+            + "i.atualizadoEm = :atualizadoEm where i.id = :id and i.quantidade >= :quantidade";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void persistAll(List<Item> items) {
+        for (Item item : items) {
+            entityManager.persist(item);
+            entityManager.persist(new ItemChange(item.getId(), ItemChangeOperation.CREATED));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Override
+    public Slice<Item> findSlice(Specification<Item> specification, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Item> criteriaQuery = criteriaBuilder.createQuery(Item.class);
+        Root<Item> root = criteriaQuery.from(Item.class);
+        restringe(criteriaQuery, root, specification, pageable.getSort(), criteriaBuilder);
+        return toSlice(entityManager.createQuery(criteriaQuery), pageable);
+    }
+
+    @Override
+    public Slice<Map<String, Object>> findSlice(Specification<Item> specification, Pageable pageable, Collection<String> campos) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
+        Root<Item> root = criteriaQuery.from(Item.class);
+        List<Selection<?>> selecoes = new ArrayList<>();
+        for (String campo : campos) {
+            selecoes.add(root.get(campo).alias(campo));
+        }
+        criteriaQuery.multiselect(selecoes);
+        restringe(criteriaQuery, root, specification, pageable.getSort(), criteriaBuilder);
+        return toSlice(entityManager.createQuery(criteriaQuery), pageable).map(tuple -> {
+            Map<String, Object> valores = new LinkedHashMap<>();
+            for (TupleElement<?> elemento : tuple.getElements()) {
+                valores.put(elemento.getAlias(), tuple.get(elemento));
+            }
+            return valores;
+        });
+    }
+
+    @Override
+    public Stream<ItemReadModel> streamForExport(String categoria, Instant atualizadoDesde) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ItemReadModel> criteriaQuery = criteriaBuilder.createQuery(ItemReadModel.class);
+        Root<Item> root = criteriaQuery.from(Item.class);
+        criteriaQuery.select(criteriaBuilder.construct(
+                ItemReadModel.class,
+                root.get("id"),
+                root.get("nome"),
+                root.get("preco"),
+                root.get("descricao"),
+                root.get("categoria"),
+                root.get("urlImagem"),
+                root.get("quantidade"),
+                root.get("versao"),
+                root.get("criadoEm"),
+                root.get("atualizadoEm")
+        ));
+        Specification<Item> specification = Specification.where(ItemSpecifications.categoria(categoria))
+                .and(ItemSpecifications.atualizadoDesde(atualizadoDesde));
+        restringe(criteriaQuery, root, specification, Sort.by("id"), criteriaBuilder);
+        return entityManager.createQuery(criteriaQuery)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    @Override
+    @Transactional
+    public Optional<Long> reservaQuantidade(UUID id, long quantidade, Instant atualizadoEm) {
+        entityManager.flush();
+        Optional<Long> restante = isPostgres()
+                ? reservaPostgres(id, quantidade, atualizadoEm)
+                : reservaGenerica(id, quantidade, atualizadoEm);
+        entityManager.clear();
+        return restante;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<Long> reservaPostgres(UUID id, long quantidade, Instant atualizadoEm) {
+        List<Long> restante = entityManager.createNativeQuery(POSTGRES_RESERVA, Long.class)
+                .setParameter("id", id)
+                .setParameter("quantidade", quantidade)
+                .setParameter("atualizadoEm", atualizadoEm)
+                .getResultList();
+        return restante.stream().findFirst();
+    }
+
+    private Optional<Long> reservaGenerica(UUID id, long quantidade, Instant atualizadoEm) {
+        int alterados = entityManager.createQuery(RESERVA)
+                .setParameter("id", id)
+                .setParameter("quantidade", quantidade)
+                .setParameter("atualizadoEm", atualizadoEm)
+                .executeUpdate();
+        if (alterados == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(entityManager.createQuery("select i.quantidade from Item i where i.id = :id", Long.class)
+                .setParameter("id", id)
+                .getSingleResult());
+    }
+
+    private boolean isPostgres() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+    }
+
+    private static void restringe(
+            CriteriaQuery<?> criteriaQuery,
+            Root<Item> root,
+            Specification<Item> specification,
+            Sort sort,
+            CriteriaBuilder criteriaBuilder
+    ) {
+        Predicate predicate = specification.toPredicate(root, criteriaQuery, criteriaBuilder);
+        if (predicate != null) {
+            criteriaQuery.where(predicate);
+        }
+        criteriaQuery.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+    }
+
+    private static <T> Slice<T> toSlice(TypedQuery<T> query, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.getResultList(), pageable, false);
+        }
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+        List<T> content = query.getResultList();
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.fiap.postech.goodbuy.item.repository;
+
+import br.com.fiap.postech.goodbuy.item.entity.Item;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface ItemSearchRepository {
+
+    Slice<Item> search(String termos, Pageable pageable);
+}
@@ -0,0 +1,115 @@
+package br.com.fiap.postech.goodbuy.item.repository;
+
+import br.com.fiap.postech.goodbuy.item.entity.Item;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ItemSearchRepositoryImpl implements ItemSearchRepository {
+    private static final String POSTGRES_SEARCH = """
+            select i.* from tb_item i
+            where i.busca @@ to_tsquery('portuguese', :tsquery)
+            order by ts_rank(i.busca, to_tsquery('portuguese', :tsquery)) desc, i.nome
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<Item> search(String termos, Pageable pageable) {
+        List<String> tokens = SearchTerms.tokenize(termos);
+        if (tokens.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        List<Item> content = isPostgres()
+                ? searchPostgres(tokens, pageable)
+                : searchGeneric(tokens, pageable);
+        boolean hasNext = pageable.isPaged() && content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Item> searchPostgres(List<String> tokens, Pageable pageable) {
+        String tsquery = tokens.stream()
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+        var query = entityManager.createNativeQuery(POSTGRES_SEARCH, Item.class)
+                .setParameter("tsquery", tsquery);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize() + 1);
+        }
+        return query.getResultList();
+    }
+
+    private List<Item> searchGeneric(List<String> tokens, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Item> criteriaQuery = criteriaBuilder.createQuery(Item.class);
+        Root<Item> root = criteriaQuery.from(Item.class);
+        List<Expression<String>> campos = List.of(
+                fold(criteriaBuilder, root.get("nome")),
+                fold(criteriaBuilder, root.get("descricao")),
+                fold(criteriaBuilder, root.get("categoria"))
+        );
+        List<Predicate> predicates = new ArrayList<>();
+        for (String token : tokens) {
+            predicates.add(criteriaBuilder.or(campos.stream()
+                    .map(campo -> criteriaBuilder.like(campo, "%" + token + "%"))
+                    .toArray(Predicate[]::new)));
+        }
+        criteriaQuery.where(predicates.toArray(Predicate[]::new));
+        List<Item> ranqueados = entityManager.createQuery(criteriaQuery).getResultList().stream()
+                .sorted(Comparator.comparingInt((Item item) -> -rank(item, tokens)).thenComparing(Item::getNome))
+                .toList();
+        if (pageable.isUnpaged()) {
+            return ranqueados;
+        }
+        int inicio = (int) Math.min(pageable.getOffset(), ranqueados.size());
+        int fim = (int) Math.min(pageable.getOffset() + pageable.getPageSize() + 1, ranqueados.size());
+        return ranqueados.subList(inicio, fim);
+    }
+
+    private static Expression<String> fold(CriteriaBuilder criteriaBuilder, Expression<String> campo) {
+        return criteriaBuilder.function(
+                "translate",
+                String.class,
+                criteriaBuilder.lower(campo),
+                criteriaBuilder.literal(SearchTerms.ACENTOS),
+                criteriaBuilder.literal(SearchTerms.SEM_ACENTOS)
+        );
+    }
+
+    private static int rank(Item item, List<String> tokens) {
+        String nome = SearchTerms.fold(item.getNome());
+        String categoria = SearchTerms.fold(item.getCategoria());
+        String descricao = SearchTerms.fold(item.getDescricao());
+        int rank = 0;
+        for (String token : tokens) {
+            rank += nome.contains(token) ? 3 : 0;
+            rank += categoria.contains(token) ? 2 : 0;
+            rank += descricao.contains(token) ? 1 : 0;
+        }
+        return rank;
+    }
+
+    private boolean isPostgres() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+    }
+}
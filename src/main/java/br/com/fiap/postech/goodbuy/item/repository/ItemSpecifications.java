@@ -0,0 +1,78 @@
+package br.com.fiap.postech.goodbuy.item.repository;
+
+import br.com.fiap.postech.goodbuy.item.dto.ItemFilterDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemMatchMode;
+import br.com.fiap.postech.goodbuy.item.entity.Item;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.jpa.convert.QueryByExamplePredicateBuilder;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.EscapeCharacter;
+
+import java.time.Instant;
+
+public final class ItemSpecifications {
+
+    private ItemSpecifications() {
+    }
+
+    public static Specification<Item> of(ItemFilterDTO filtro) {
+        return Specification.where(byExample(toExample(filtro)))
+                .and(precoMin(filtro.precoMin()))
+                .and(precoMax(filtro.precoMax()))
+                .and(quantidadeMin(filtro.quantidadeMin()))
+                .and(atualizadoDesde(filtro.atualizadoDesde()));
+    }
+
+    public static Specification<Item> byExample(Example<Item> example) {
+        return (root, query, criteriaBuilder) ->
+                QueryByExamplePredicateBuilder.getPredicate(root, criteriaBuilder, example, EscapeCharacter.DEFAULT);
+    }
+
+    public static Specification<Item> categoria(String categoria) {
+        return (root, query, criteriaBuilder) -> categoria == null
+                ? null
+                : criteriaBuilder.equal(root.get("categoria"), categoria);
+    }
+
+    public static Specification<Item> precoMin(Double precoMin) {
+        return (root, query, criteriaBuilder) -> precoMin == null
+                ? null
+                : criteriaBuilder.greaterThanOrEqualTo(root.get("preco"), precoMin);
+    }
+
+    public static Specification<Item> precoMax(Double precoMax) {
+        return (root, query, criteriaBuilder) -> precoMax == null
+                ? null
+                : criteriaBuilder.lessThanOrEqualTo(root.get("preco"), precoMax);
+    }
+
+    public static Specification<Item> quantidadeMin(Long quantidadeMin) {
+        return (root, query, criteriaBuilder) -> quantidadeMin == null
+                ? null
+                : criteriaBuilder.greaterThanOrEqualTo(root.get("quantidade"), quantidadeMin);
+    }
+
+    public static Specification<Item> atualizadoDesde(Instant atualizadoDesde) {
+        return (root, query, criteriaBuilder) -> atualizadoDesde == null
+                ? null
+                : criteriaBuilder.greaterThanOrEqualTo(root.get("atualizadoEm"), atualizadoDesde);
+    }
+
+    static Example<Item> toExample(ItemFilterDTO filtro) {
+        ExampleMatcher matcher = ExampleMatcher.matching()
+                .withMatcher("nome", toMatcher(filtro.nomeMatch(), filtro.ignoreCase()))
+                .withMatcher("descricao", toMatcher(filtro.descricaoMatch(), filtro.ignoreCase()))
+                .withMatcher("categoria", ExampleMatcher.GenericPropertyMatchers.exact());
+        return Example.of(filtro.toProbe(), matcher);
+    }
+
+    private static ExampleMatcher.GenericPropertyMatcher toMatcher(ItemMatchMode matchMode, boolean ignoreCase) {
+        ExampleMatcher.GenericPropertyMatcher matcher = switch (matchMode) {
+            case EXACT -> ExampleMatcher.GenericPropertyMatchers.exact();
+            case PREFIX -> ExampleMatcher.GenericPropertyMatchers.startsWith();
+            case CONTAINS -> ExampleMatcher.GenericPropertyMatchers.contains();
+        };
+        return ignoreCase ? matcher.ignoreCase() : matcher;
+    }
+}
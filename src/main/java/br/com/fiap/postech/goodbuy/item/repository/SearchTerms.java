@@ -0,0 +1,32 @@
+package br.com.fiap.postech.goodbuy.item.repository;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+final class SearchTerms {
+    static final int MAX_TOKENS = 10;
+    static final String ACENTOS = "áàâãäåéèêëíìîïóòôõöúùûüçñ";
+    static final String SEM_ACENTOS = "aaaaaaeeeeiiiiooooouuuucn";
+
+    private SearchTerms() {
+    }
+
+    static String fold(String valor) {
+        String normalizado = Normalizer.normalize(valor, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "");
+        return normalizado.toLowerCase(Locale.ROOT);
+    }
+
+    static List<String> tokenize(String termos) {
+        if (termos == null) {
+            return List.of();
+        }
+        return Arrays.stream(fold(termos).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .limit(MAX_TOKENS)
+                .toList();
+    }
+}
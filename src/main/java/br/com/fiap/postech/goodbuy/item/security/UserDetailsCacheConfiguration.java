@@ -0,0 +1,31 @@
+package br.com.fiap.postech.goodbuy.item.security;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "item.security.user-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class UserDetailsCacheConfiguration {
+    public static final String USER_DETAILS_CACHE = "user-details";
+
+    @Bean
+    public static UserDetailsCachePostProcessor userDetailsCachePostProcessor(
+            @Value("${item.security.user-cache.bean-name:userDetailsServiceImpl}") String beanName,
+            @Value("${item.security.user-cache.maximum-size:10000}") long maximumSize,
+            @Value("${item.security.user-cache.expire-after-write:60s}") Duration expireAfterWrite
+    ) {
+        return new UserDetailsCachePostProcessor(beanName, maximumSize, expireAfterWrite);
+    }
+
+    @Bean
+    public MeterBinder userDetailsCacheMetrics(UserDetailsCachePostProcessor userDetailsCachePostProcessor) {
+        return new CaffeineCacheMetrics<>(userDetailsCachePostProcessor.getCache(), USER_DETAILS_CACHE, Tags.empty());
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.fiap.postech.goodbuy.item.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+
+public class UserDetailsCachePostProcessor implements BeanPostProcessor {
+    private static final String LOAD_USER_BY_USERNAME = "loadUserByUsername";
+
+    private final String beanName;
+    private final Cache<String, UserDetails> cache;
+
+    public UserDetailsCachePostProcessor(String beanName, long maximumSize, Duration expireAfterWrite) {
+        this.beanName = beanName;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!this.beanName.equals(beanName)) {
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            Object[] argumentos = invocation.getArguments();
+            if (!LOAD_USER_BY_USERNAME.equals(invocation.getMethod().getName())
+                    || argumentos.length != 1
+                    || !(argumentos[0] instanceof String username)) {
+                return invocation.proceed();
+            }
+            UserDetails userDetails = cache.getIfPresent(username);
+            if (userDetails == null) {
+                UserDetails carregado = (UserDetails) invocation.proceed();
+                if (carregado == null) {
+                    return null;
+                }
+                userDetails = User.withUserDetails(carregado).build();
+                cache.put(username, userDetails);
+            }
+            return User.withUserDetails(userDetails).build();
+        });
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+
+    public Cache<String, UserDetails> getCache() {
+        return cache;
+    }
+}
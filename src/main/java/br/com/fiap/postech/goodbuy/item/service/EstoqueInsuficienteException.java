@@ -0,0 +1,16 @@
+package br.com.fiap.postech.goodbuy.item.service;
+
+import br.com.fiap.postech.goodbuy.item.dto.ItemStockBatchDTO;
+
+public class EstoqueInsuficienteException extends RuntimeException {
+    private final transient ItemStockBatchDTO resultado;
+
+    public EstoqueInsuficienteException(ItemStockBatchDTO resultado) {
+        super("Estoque insuficiente para reservar os items informados.");
+        this.resultado = resultado;
+    }
+
+    public ItemStockBatchDTO getResultado() {
+        return resultado;
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.fiap.postech.goodbuy.item.service;
+
+import br.com.fiap.postech.goodbuy.item.repository.ItemChangeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@ConditionalOnProperty(name = "item.changes.compaction.enabled", havingValue = "true", matchIfMissing = true)
+public class ItemChangeCompactionJob {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ItemChangeCompactionJob.class);
+
+    private final ItemChangeRepository itemChangeRepository;
+
+    @Autowired
+    public ItemChangeCompactionJob(ItemChangeRepository itemChangeRepository) {
+        this.itemChangeRepository = itemChangeRepository;
+    }
+
+    @Transactional
+    @Scheduled(
+            initialDelayString = "${item.changes.compaction.interval:PT5M}",
+            fixedDelayString = "${item.changes.compaction.interval:PT5M}"
+    )
+    public void compacta() {
+        int removidas = itemChangeRepository.compacta();
+        if (removidas > 0) {
+            LOGGER.info("{} alterações de items substituídas por alterações mais recentes foram compactadas.", removidas);
+        }
+    }
+}
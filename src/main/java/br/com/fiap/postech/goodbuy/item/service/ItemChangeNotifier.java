@@ -0,0 +1,105 @@
+package br.com.fiap.postech.goodbuy.item.service;
+
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+@Component
+public class ItemChangeNotifier implements DisposableBean {
+    public static final int MAX_CHANGES_READERS = 4;
+    private static final Logger LOGGER = LoggerFactory.getLogger(ItemChangeNotifier.class);
+    private static final ContextSnapshotFactory CONTEXTO = ContextSnapshotFactory.builder().build();
+
+    private final ItemChangeSequencer itemChangeSequencer;
+    private final ScheduledExecutorService verificador;
+    private final ExecutorService leitores;
+    private final Set<Espera> esperas = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean pendente = new AtomicBoolean();
+    private final TransactionSynchronization aposCommit = new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+            notifica();
+        }
+    };
+
+    @Autowired
+    public ItemChangeNotifier(
+            ItemChangeSequencer itemChangeSequencer,
+            @Value("${item.changes.poll-interval:PT1S}") Duration intervalo
+    ) {
+        this.itemChangeSequencer = itemChangeSequencer;
+        this.verificador = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("item-changes").daemon().factory()
+        );
+        this.leitores = Executors.newFixedThreadPool(
+                MAX_CHANGES_READERS, Thread.ofPlatform().name("item-changes-reader-", 0).daemon().factory()
+        );
+        this.verificador.scheduleWithFixedDelay(this::notifica, intervalo.toMillis(), intervalo.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public <T> CompletableFuture<T> aguarda(long since, Duration espera, Supplier<T> leitura) {
+        var aguardando = new Espera(since, new CompletableFuture<>());
+        esperas.add(aguardando);
+        aguardando.futuro().whenComplete((sinalizada, exception) -> esperas.remove(aguardando));
+        aguardando.futuro().completeOnTimeout(false, espera.toNanos(), TimeUnit.NANOSECONDS);
+        notifica();
+        ContextSnapshot contexto = CONTEXTO.captureAll();
+        return aguardando.futuro().thenApplyAsync(
+                sinalizada -> leitura.get(), tarefa -> leitores.execute(contexto.wrap(tarefa))
+        );
+    }
+
+    public void notificaAposCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notifica();
+        } else if (!TransactionSynchronizationManager.getSynchronizations().contains(aposCommit)) {
+            TransactionSynchronizationManager.registerSynchronization(aposCommit);
+        }
+    }
+
+    public void notifica() {
+        if (pendente.compareAndSet(false, true)) {
+            verificador.execute(this::verifica);
+        }
+    }
+
+    private void verifica() {
+        pendente.set(false);
+        try {
+            long ultima = itemChangeSequencer.sequencia();
+            esperas.stream()
+                    .filter(aguardando -> aguardando.since() < ultima)
+                    .forEach(aguardando -> aguardando.futuro().complete(true));
+        } catch (RuntimeException exception) {
+            LOGGER.warn("Não foi possível verificar novas alterações de items.", exception);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        verificador.shutdownNow();
+        leitores.shutdownNow();
+        esperas.forEach(aguardando -> aguardando.futuro().complete(false));
+    }
+
+    private record Espera(long since, CompletableFuture<Boolean> futuro) {
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.fiap.postech.goodbuy.item.service;
+
+import br.com.fiap.postech.goodbuy.item.entity.ItemChange;
+import br.com.fiap.postech.goodbuy.item.repository.ItemChangeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Component
+public class ItemChangeSequencer {
+    public static final int MAX_SEQUENCE_BATCH = 1000;
+
+    private final ItemChangeRepository itemChangeRepository;
+
+    @Autowired
+    public ItemChangeSequencer(ItemChangeRepository itemChangeRepository) {
+        this.itemChangeRepository = itemChangeRepository;
+    }
+
+    @Transactional
+    public long sequencia() {
+        long ultima = itemChangeRepository.travaUltimaPosicao();
+        List<ItemChange> pendentes = itemChangeRepository.findByPosicaoIsNullOrderBySequencia(Limit.of(MAX_SEQUENCE_BATCH));
+        if (pendentes.isEmpty()) {
+            return ultima;
+        }
+        for (ItemChange alteracao : pendentes) {
+            alteracao.setPosicao(++ultima);
+        }
+        itemChangeRepository.flush();
+        itemChangeRepository.atualizaUltimaPosicao(ultima);
+        return ultima;
+    }
+}
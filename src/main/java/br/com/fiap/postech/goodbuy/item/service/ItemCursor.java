@@ -0,0 +1,44 @@
+package br.com.fiap.postech.goodbuy.item.service;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+final class ItemCursor {
+    static final Sort SORT = Sort.by("nome", "id");
+
+    private static final int UUID_LENGTH = 36;
+
+    private ItemCursor() {
+    }
+
+    static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalStateException("Posição de scroll não suportada: " + position);
+        }
+        Map<String, ?> keys = keyset.getKeys();
+        String valor = keys.get("id").toString() + keys.get("nome");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static KeysetScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("nome", valor.substring(UUID_LENGTH));
+            keys.put("id", UUID.fromString(valor.substring(0, UUID_LENGTH)));
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException exception) {
+            throw new IllegalArgumentException("Cursor inválido.");
+        }
+    }
+}
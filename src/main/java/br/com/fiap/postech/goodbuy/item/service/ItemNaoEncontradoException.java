@@ -0,0 +1,10 @@
+package br.com.fiap.postech.goodbuy.item.service;
+
+import java.util.UUID;
+
+public class ItemNaoEncontradoException extends IllegalArgumentException {
+
+    public ItemNaoEncontradoException(UUID id) {
+        super("Item não encontrado com o ID: " + id);
+    }
+}
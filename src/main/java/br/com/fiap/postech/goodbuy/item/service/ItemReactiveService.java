@@ -0,0 +1,19 @@
+package br.com.fiap.postech.goodbuy.item.service;
+
+import br.com.fiap.postech.goodbuy.item.entity.ItemReadModel;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface ItemReactiveService {
+    Mono<ItemReadModel> findById(UUID id);
+
+    Flux<ItemReadModel> findAllById(Collection<UUID> ids);
+
+    Flux<ItemReadModel> findAll(Pageable pageable, String categoria);
+
+    Flux<ItemReadModel> stream(String categoria);
+}
@@ -0,0 +1,59 @@
+package br.com.fiap.postech.goodbuy.item.service;
+
+import br.com.fiap.postech.goodbuy.item.entity.ItemReadModel;
+import br.com.fiap.postech.goodbuy.item.repository.ItemReactiveRepository;
+import io.micrometer.common.util.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+public class ItemReactiveServiceImpl implements ItemReactiveService {
+    private final ItemReactiveRepository itemReactiveRepository;
+
+    @Autowired
+    public ItemReactiveServiceImpl(ItemReactiveRepository itemReactiveRepository) {
+        this.itemReactiveRepository = itemReactiveRepository;
+    }
+
+    @Override
+    public Mono<ItemReadModel> findById(UUID id) {
+        return itemReactiveRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ItemNaoEncontradoException(id)));
+    }
+
+    @Override
+    public Flux<ItemReadModel> findAllById(Collection<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("Ao menos um id deve ser informado.");
+        }
+        Set<UUID> idsDistintos = new LinkedHashSet<>(ids);
+        if (idsDistintos.size() > ItemServiceImpl.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("No máximo " + ItemServiceImpl.MAX_BATCH_SIZE + " ids podem ser consultados por vez.");
+        }
+        return itemReactiveRepository.findAllById(idsDistintos);
+    }
+
+    @Override
+    public Flux<ItemReadModel> findAll(Pageable pageable, String categoria) {
+        if (StringUtils.isBlank(categoria)) {
+            return itemReactiveRepository.findAllBy(pageable);
+        }
+        return itemReactiveRepository.findByCategoria(categoria, pageable);
+    }
+
+    @Override
+    public Flux<ItemReadModel> stream(String categoria) {
+        if (StringUtils.isBlank(categoria)) {
+            return itemReactiveRepository.streamAll();
+        }
+        return itemReactiveRepository.streamByCategoria(categoria);
+    }
+}
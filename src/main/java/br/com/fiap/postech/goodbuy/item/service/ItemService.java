@@ -1,19 +1,65 @@
 package br.com.fiap.postech.goodbuy.item.service;
 
+import br.com.fiap.postech.goodbuy.item.dto.ItemBatchDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemChangeBatchDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemFilterDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemImportResultDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemScrollDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemStockBatchDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemStockDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemStockRequestDTO;
 import br.com.fiap.postech.goodbuy.item.entity.Item;
+import br.com.fiap.postech.goodbuy.item.entity.ItemReadModel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface ItemService {
     Item save(Item item);
 
-    Page<Item> findAll(Pageable pageable, Item item);
+    ItemImportResultDTO saveAll(Iterator<Item> items);
+
+    default Page<Item> findAll(Pageable pageable, Item item) {
+        return findAll(pageable, ItemFilterDTO.of(item));
+    }
+
+    Page<Item> findAll(Pageable pageable, ItemFilterDTO filtro);
+
+    Slice<Item> findSlice(Pageable pageable, ItemFilterDTO filtro);
+
+    Page<Map<String, Object>> findAll(Pageable pageable, ItemFilterDTO filtro, Collection<String> campos);
+
+    Slice<Map<String, Object>> findSlice(Pageable pageable, ItemFilterDTO filtro, Collection<String> campos);
+
+    Slice<Item> search(String termos, Pageable pageable);
+
+    ItemScrollDTO scroll(String cursor, int size, Item item);
+
+    long export(String categoria, Instant atualizadoDesde, Consumer<ItemReadModel> consumidor);
 
     Item findById(UUID id);
 
+    Long findVersaoById(UUID id);
+
+    ItemBatchDTO findAllById(Collection<UUID> ids);
+
     Item update(UUID id, Item item);
 
     void delete(UUID id);
+
+    CompletableFuture<ItemChangeBatchDTO> findChanges(long since, int limit, Duration espera);
+
+    ItemStockDTO decrementaEstoque(UUID id, long quantidade);
+
+    ItemStockBatchDTO decrementaEstoque(List<ItemStockRequestDTO> items);
 }
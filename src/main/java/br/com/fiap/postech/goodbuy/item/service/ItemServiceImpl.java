@@ -1,62 +1,327 @@
 package br.com.fiap.postech.goodbuy.item.service;
 
+import br.com.fiap.postech.goodbuy.item.config.CacheConfiguration;
+import br.com.fiap.postech.goodbuy.item.config.ReplicaRoutingDataSource;
+import br.com.fiap.postech.goodbuy.item.dto.ItemBatchDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemChangeBatchDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemChangeDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemFilterDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemImportErrorDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemImportResultDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemScrollDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemStockBatchDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemStockDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemStockRequestDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemStockStatus;
 import br.com.fiap.postech.goodbuy.item.entity.Item;
+import br.com.fiap.postech.goodbuy.item.entity.ItemChange;
+import br.com.fiap.postech.goodbuy.item.entity.ItemChangeOperation;
+import br.com.fiap.postech.goodbuy.item.entity.ItemReadModel;
+import br.com.fiap.postech.goodbuy.item.repository.ItemChangeRepository;
 import br.com.fiap.postech.goodbuy.item.repository.ItemRepository;
+import br.com.fiap.postech.goodbuy.item.repository.ItemSpecifications;
 import io.micrometer.common.util.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.UUID;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class ItemServiceImpl implements ItemService {
+    public static final int MAX_BATCH_SIZE = 500;
+    public static final int IMPORT_CHUNK_SIZE = 500;
+    public static final int MAX_SCROLL_SIZE = 1000;
+    public static final int MAX_CHANGES_SIZE = 1000;
+    public static final Duration MAX_CHANGES_WAIT = Duration.ofSeconds(60);
+    private static final Set<String> CAMPOS = Set.of(
+            "id", "nome", "preco", "descricao", "categoria", "urlImagem", "quantidade", "versao", "criadoEm", "atualizadoEm"
+    );
+
     private final ItemRepository itemRepository;
+    private final ItemChangeRepository itemChangeRepository;
+    private final ItemChangeNotifier itemChangeNotifier;
+    private final CacheManager cacheManager;
 
     @Autowired
-    public ItemServiceImpl(ItemRepository itemRepository) {
+    public ItemServiceImpl(ItemRepository itemRepository, ItemChangeRepository itemChangeRepository,
+                           ItemChangeNotifier itemChangeNotifier, CacheManager cacheManager) {
         this.itemRepository = itemRepository;
+        this.itemChangeRepository = itemChangeRepository;
+        this.itemChangeNotifier = itemChangeNotifier;
+        this.cacheManager = cacheManager;
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfiguration.ITEM_CACHE, key = "#result.id"),
+            @CacheEvict(cacheNames = CacheConfiguration.ITEM_COUNT_CACHE, allEntries = true)
+    })
+    @Transactional
     public Item save(Item item) {
-        validaNome(item);
-        if (item.getId() != null) {
-            throw new IllegalArgumentException("o id do item é gerado pelo sistema.");
-        }
-        validaPreco(item);
-        validaDescricao(item);
-        validaCategoria(item);
-        validaUrlImagem(item);
-        validaQuantidade(item);
+        validaNovoItem(item);
         if (itemRepository.findByNome(item.getNome()).isPresent()) {
             throw new IllegalArgumentException("Já existe um item cadastrado com esse nome.");
         }
         item.setId(UUID.randomUUID());
-        return itemRepository.save(item);
+        item.setVersao(null);
+        Item savedItem = itemRepository.save(item);
+        registraAlteracao(savedItem.getId(), ItemChangeOperation.CREATED);
+        return savedItem;
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfiguration.ITEM_COUNT_CACHE, allEntries = true)
+    public ItemImportResultDTO saveAll(Iterator<Item> items) {
+        long total = 0;
+        long imported = 0;
+        List<ItemImportErrorDTO> errors = new ArrayList<>();
+        Set<String> nomesRecebidos = new HashSet<>();
+        Map<Long, Item> chunk = new LinkedHashMap<>();
+        while (items.hasNext()) {
+            total++;
+            Item item = null;
+            try {
+                item = items.next();
+                validaNovoItem(item);
+                if (!nomesRecebidos.add(item.getNome())) {
+                    throw new IllegalArgumentException("Já existe um item cadastrado com esse nome.");
+                }
+                chunk.put(total, item);
+            } catch (IllegalArgumentException exception) {
+                errors.add(new ItemImportErrorDTO(total, item != null ? item.getNome() : null, exception.getMessage()));
+            }
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                imported += importaChunk(chunk, errors);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            imported += importaChunk(chunk, errors);
+        }
+        if (imported > 0) {
+            itemChangeNotifier.notifica();
+        }
+        return new ItemImportResultDTO(total, imported, errors);
+    }
+
+    private int importaChunk(Map<Long, Item> chunk, List<ItemImportErrorDTO> errors) {
+        Set<String> nomesExistentes = itemRepository.findNomesExistentes(
+                chunk.values().stream().map(Item::getNome).toList()
+        );
+        Map<Long, Item> novosItems = new LinkedHashMap<>();
+        chunk.forEach((line, item) -> {
+            if (nomesExistentes.contains(item.getNome())) {
+                errors.add(new ItemImportErrorDTO(line, item.getNome(), "Já existe um item cadastrado com esse nome."));
+            } else {
+                item.setId(UUID.randomUUID());
+                item.setVersao(null);
+                novosItems.put(line, item);
+            }
+        });
+        chunk.clear();
+        if (novosItems.isEmpty()) {
+            return 0;
+        }
+        try {
+            itemRepository.persistAll(new ArrayList<>(novosItems.values()));
+        } catch (DataAccessException exception) {
+            return importaPorLinha(novosItems, errors);
+        }
+        return novosItems.size();
+    }
+
+    private int importaPorLinha(Map<Long, Item> novosItems, List<ItemImportErrorDTO> errors) {
+        int imported = 0;
+        for (Map.Entry<Long, Item> entry : novosItems.entrySet()) {
+            Item item = entry.getValue();
+            item.setVersao(null);
+            try {
+                itemRepository.persistAll(List.of(item));
+                imported++;
+            } catch (DataAccessException exception) {
+                errors.add(new ItemImportErrorDTO(entry.getKey(), item.getNome(), "Não foi possível gravar este item."));
+            }
+        }
+        return imported;
     }
 
     @Override
-    public Page<Item> findAll(Pageable pageable, Item item) {
-        Example<Item> itemExample = Example.of(item);
-        return itemRepository.findAll(itemExample, pageable);
+    @Transactional(readOnly = true)
+    public Page<Item> findAll(Pageable pageable, ItemFilterDTO filtro) {
+        validaFiltro(filtro);
+        Specification<Item> specification = ItemSpecifications.of(filtro);
+        Slice<Item> slice = itemRepository.findSlice(specification, pageable);
+        return PageableExecutionUtils.getPage(slice.getContent(), pageable, () -> count(filtro, specification));
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Slice<Item> findSlice(Pageable pageable, ItemFilterDTO filtro) {
+        validaFiltro(filtro);
+        return itemRepository.findSlice(ItemSpecifications.of(filtro), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findAll(Pageable pageable, ItemFilterDTO filtro, Collection<String> campos) {
+        validaFiltro(filtro);
+        Set<String> selecionados = validaCampos(campos);
+        Specification<Item> specification = ItemSpecifications.of(filtro);
+        Slice<Map<String, Object>> slice = itemRepository.findSlice(specification, pageable, selecionados);
+        return PageableExecutionUtils.getPage(slice.getContent(), pageable, () -> count(filtro, specification));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Map<String, Object>> findSlice(Pageable pageable, ItemFilterDTO filtro, Collection<String> campos) {
+        validaFiltro(filtro);
+        return itemRepository.findSlice(ItemSpecifications.of(filtro), pageable, validaCampos(campos));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Item> search(String termos, Pageable pageable) {
+        if (StringUtils.isBlank(termos)) {
+            throw new IllegalArgumentException("O termo de busca deve ser informado.");
+        }
+        return itemRepository.search(termos, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ItemScrollDTO scroll(String cursor, int size, Item item) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new IllegalArgumentException("O tamanho da página deve estar entre 1 e " + MAX_SCROLL_SIZE + ".");
+        }
+        ScrollPosition position = ItemCursor.decode(cursor);
+        Window<Item> window = itemRepository.findBy(
+                Example.of(item),
+                query -> query.sortBy(ItemCursor.SORT).limit(size).scroll(position)
+        );
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? ItemCursor.encode(window.positionAt(window.size() - 1))
+                : null;
+        return new ItemScrollDTO(window.getContent(), size, window.hasNext(), nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long export(String categoria, Instant atualizadoDesde, Consumer<ItemReadModel> consumidor) {
+        long total = 0;
+        try (Stream<ItemReadModel> items = itemRepository.streamForExport(
+                StringUtils.isBlank(categoria) ? null : categoria,
+                atualizadoDesde
+        )) {
+            Iterator<ItemReadModel> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                consumidor.accept(iterator.next());
+                total++;
+            }
+        }
+        return total;
+    }
+
+    @Override
+    @Transactional
+    @Cacheable(cacheNames = CacheConfiguration.ITEM_CACHE, key = "#id")
     public Item findById(UUID id) {
         return itemRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Item não encontrado com o ID: " + id));
+                .orElseThrow(() -> new ItemNaoEncontradoException(id));
+    }
+
+    @Override
+    @Transactional
+    public Long findVersaoById(UUID id) {
+        Cache cache = cacheManager.getCache(CacheConfiguration.ITEM_CACHE);
+        Item item = cache != null ? cache.get(id, Item.class) : null;
+        if (item != null) {
+            return item.getVersao();
+        }
+        return itemRepository.findVersaoById(id)
+                .orElseThrow(() -> new ItemNaoEncontradoException(id));
+    }
+
+    @Override
+    @Transactional
+    public ItemBatchDTO findAllById(Collection<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("Ao menos um id deve ser informado.");
+        }
+        Set<UUID> idsDistintos = new LinkedHashSet<>(ids);
+        if (idsDistintos.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("No máximo " + MAX_BATCH_SIZE + " ids podem ser consultados por vez.");
+        }
+        Cache cache = cacheManager.getCache(CacheConfiguration.ITEM_CACHE);
+        Map<UUID, Item> encontrados = new HashMap<>();
+        List<UUID> pendentes = new ArrayList<>();
+        for (UUID id : idsDistintos) {
+            Item item = cache != null ? cache.get(id, Item.class) : null;
+            if (item != null) {
+                encontrados.put(id, item);
+            } else {
+                pendentes.add(id);
+            }
+        }
+        if (!pendentes.isEmpty()) {
+            for (Item item : itemRepository.findAllById(pendentes)) {
+                encontrados.put(item.getId(), item);
+                if (cache != null) {
+                    cache.put(item.getId(), item);
+                }
+            }
+        }
+        List<Item> items = new ArrayList<>();
+        List<UUID> missingIds = new ArrayList<>();
+        for (UUID id : idsDistintos) {
+            Item item = encontrados.get(id);
+            if (item != null) {
+                items.add(item);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new ItemBatchDTO(items, missingIds);
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfiguration.ITEM_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfiguration.ITEM_COUNT_CACHE, allEntries = true)
+    })
+    @Transactional
     public Item update(UUID id, Item itemParam) {
         Item item = findById(id);
         if (itemParam.getId() != null && !item.getId().equals(itemParam.getId())) {
             throw new IllegalArgumentException("Não é possível alterar o id de um item.");
         }
+        if (itemParam.getVersao() != null && !itemParam.getVersao().equals(item.getVersao())) {
+            throw new OptimisticLockingFailureException("O item foi alterado por outra requisição.");
+        }
         if (StringUtils.isNotEmpty(itemParam.getNome())) {
+            if (!itemParam.getNome().equals(item.getNome()) && itemRepository.existsByNomeAndIdNot(itemParam.getNome(), id)) {
+                throw new IllegalArgumentException("Já existe um item cadastrado com esse nome.");
+            }
             item.setNome(itemParam.getNome());
         }
         if (itemParam.getPreco() != null) {
@@ -78,23 +343,195 @@ public class ItemServiceImpl implements ItemService {
             item.setQuantidade(itemParam.getQuantidade());
         }
         item = itemRepository.save(item);
+        registraAlteracao(id, ItemChangeOperation.UPDATED);
         return item;
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfiguration.ITEM_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfiguration.ITEM_COUNT_CACHE, allEntries = true)
+    })
+    @Transactional
     public void delete(UUID id) {
         findById(id);
         itemRepository.deleteById(id);
+        registraAlteracao(id, ItemChangeOperation.DELETED);
+    }
+
+    @Override
+    public CompletableFuture<ItemChangeBatchDTO> findChanges(long since, int limit, Duration espera) {
+        if (since < 0) {
+            throw new IllegalArgumentException("A sequência inicial deve ser maior ou igual a zero.");
+        }
+        if (limit < 1 || limit > MAX_CHANGES_SIZE) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + MAX_CHANGES_SIZE + ".");
+        }
+        if (espera == null || espera.isNegative() || espera.compareTo(MAX_CHANGES_WAIT) > 0) {
+            throw new IllegalArgumentException("A espera deve estar entre 0 e " + MAX_CHANGES_WAIT.toSeconds() + " segundos.");
+        }
+        List<ItemChange> alteracoes = buscaAlteracoes(since, limit);
+        if (!alteracoes.isEmpty() || espera.isZero()) {
+            return CompletableFuture.completedFuture(compacta(since, limit, alteracoes));
+        }
+        return itemChangeNotifier.aguarda(since, espera, () -> compacta(since, limit, buscaAlteracoes(since, limit)));
+    }
+
+    private List<ItemChange> buscaAlteracoes(long since, int limit) {
+        return itemChangeRepository.findByPosicaoGreaterThanOrderByPosicao(since, Limit.of(limit));
+    }
+
+    private ItemChangeBatchDTO compacta(long since, int limit, List<ItemChange> alteracoes) {
+        Map<UUID, ItemChange> ultimas = new LinkedHashMap<>();
+        for (ItemChange alteracao : alteracoes) {
+            ultimas.remove(alteracao.getItemId());
+            ultimas.put(alteracao.getItemId(), alteracao);
+        }
+        List<UUID> ids = ultimas.values().stream()
+                .filter(alteracao -> alteracao.getOperacao() != ItemChangeOperation.DELETED)
+                .map(ItemChange::getItemId)
+                .toList();
+        Map<UUID, Item> items = new HashMap<>();
+        if (!ids.isEmpty()) {
+            itemRepository.findAllById(ids).forEach(item -> items.put(item.getId(), item));
+        }
+        List<ItemChangeDTO> changes = ultimas.values().stream()
+                .map(alteracao -> new ItemChangeDTO(
+                        alteracao.getPosicao(),
+                        alteracao.getItemId(),
+                        alteracao.getOperacao(),
+                        alteracao.getOcorridoEm(),
+                        items.get(alteracao.getItemId())
+                ))
+                .toList();
+        long nextSince = alteracoes.isEmpty() ? since : alteracoes.get(alteracoes.size() - 1).getPosicao();
+        return new ItemChangeBatchDTO(changes, nextSince, alteracoes.size() == limit);
+    }
+
+    private void registraAlteracao(UUID id, ItemChangeOperation operacao) {
+        itemChangeRepository.save(new ItemChange(id, operacao));
+        itemChangeNotifier.notificaAposCommit();
+    }
+
+    private long count(ItemFilterDTO filtro, Specification<Item> specification) {
+        Cache cache = cacheManager.getCache(CacheConfiguration.ITEM_COUNT_CACHE);
+        if (cache == null) {
+            return itemRepository.count(specification);
+        }
+        Long total = cache.get(filtro, Long.class);
+        if (total == null) {
+            total = itemRepository.count(specification);
+            if (!ReplicaRoutingDataSource.isLeituraEmReplica()) {
+                cache.put(filtro, total);
+            }
+        }
+        return total;
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfiguration.ITEM_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfiguration.ITEM_COUNT_CACHE, allEntries = true)
+    })
+    public ItemStockDTO decrementaEstoque(UUID id, long quantidade) {
+        return decrementa(id, quantidade);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.ITEM_COUNT_CACHE, allEntries = true)
+    public ItemStockBatchDTO decrementaEstoque(List<ItemStockRequestDTO> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Ao menos um item deve ser informado.");
+        }
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("No máximo " + MAX_BATCH_SIZE + " items podem ser reservados por vez.");
+        }
+        Map<UUID, Long> quantidades = new TreeMap<>();
+        for (ItemStockRequestDTO item : items) {
+            if (item.id() == null || item.quantidade() == null) {
+                throw new IllegalArgumentException("O id e a quantidade de cada item devem ser informados.");
+            }
+            quantidades.merge(item.id(), item.quantidade(), Long::sum);
+        }
+        List<ItemStockDTO> reservados = new ArrayList<>();
+        List<ItemStockDTO> insuficientes = new ArrayList<>();
+        for (Map.Entry<UUID, Long> entry : quantidades.entrySet()) {
+            ItemStockDTO itemStock = decrementa(entry.getKey(), entry.getValue());
+            if (itemStock.status() == ItemStockStatus.RESERVED) {
+                reservados.add(itemStock);
+            } else {
+                insuficientes.add(itemStock);
+            }
+        }
+        if (!insuficientes.isEmpty()) {
+            throw new EstoqueInsuficienteException(new ItemStockBatchDTO(ItemStockStatus.INSUFFICIENT_STOCK, insuficientes));
+        }
+        Cache cache = cacheManager.getCache(CacheConfiguration.ITEM_CACHE);
+        if (cache != null) {
+            quantidades.keySet().forEach(cache::evict);
+        }
+        return new ItemStockBatchDTO(ItemStockStatus.RESERVED, reservados);
+    }
+
+    private ItemStockDTO decrementa(UUID id, long quantidade) {
+        if (quantidade < 1) {
+            throw new IllegalArgumentException("Quantidade deve ser maior que zero.");
+        }
+        Optional<Long> restante = itemRepository.reservaQuantidade(id, quantidade, Instant.now());
+        if (restante.isPresent()) {
+            registraAlteracao(id, ItemChangeOperation.UPDATED);
+            return new ItemStockDTO(id, restante.get(), ItemStockStatus.RESERVED);
+        }
+        Long quantidadeAtual = itemRepository.findQuantidadeById(id)
+                .orElseThrow(() -> new ItemNaoEncontradoException(id));
+        return new ItemStockDTO(id, quantidadeAtual, ItemStockStatus.INSUFFICIENT_STOCK);
+    }
+
+    private static Set<String> validaCampos(Collection<String> campos) {
+        if (campos == null || campos.isEmpty()) {
+            throw new IllegalArgumentException("Ao menos um campo deve ser informado.");
+        }
+        Set<String> selecionados = new LinkedHashSet<>();
+        selecionados.add("id");
+        for (String campo : campos) {
+            String nome = campo.trim();
+            if (!CAMPOS.contains(nome)) {
+                throw new IllegalArgumentException("Campo inválido: " + campo);
+            }
+            selecionados.add(nome);
+        }
+        return selecionados;
+    }
+
+    private static void validaFiltro(ItemFilterDTO filtro) {
+        if (filtro.precoMin() != null && filtro.precoMax() != null
+                && filtro.precoMin().compareTo(filtro.precoMax()) > 0) {
+            throw new IllegalArgumentException("O preço mínimo deve ser menor ou igual ao preço máximo.");
+        }
+    }
+
+    private static void validaNovoItem(Item item) {
+        validaNome(item);
+        if (item.getId() != null) {
+            throw new IllegalArgumentException("o id do item é gerado pelo sistema.");
+        }
+        validaPreco(item);
+        validaDescricao(item);
+        validaCategoria(item);
+        validaUrlImagem(item);
+        validaQuantidade(item);
     }
 
     private static void validaPreco(Item item) {
-        if (item.getPreco().compareTo(0d) < 0) {
+        if (item.getPreco() == null || item.getPreco().compareTo(0d) < 0) {
             throw new IllegalArgumentException("Preço deve ser maior que zero.");
         }
     }
 
     private static void validaQuantidade(Item item) {
-        if (item.getQuantidade() < 1) {
+        if (item.getQuantidade() == null || item.getQuantidade() < 1) {
             throw new IllegalArgumentException("Quantidade deve ser maior que um.");
         }
     }
@@ -105,19 +542,19 @@ public class ItemServiceImpl implements ItemService {
         }
     }
 
-    private void validaDescricao(Item item) {
+    private static void validaDescricao(Item item) {
         if (StringUtils.isEmpty(item.getDescricao())) {
             throw new IllegalArgumentException("Descricao do item deve ser informada.");
         }
     }
 
-    private void validaCategoria(Item item) {
+    private static void validaCategoria(Item item) {
         if (StringUtils.isEmpty(item.getCategoria())) {
             throw new IllegalArgumentException("Categoria do item deve ser informada.");
         }
     }
 
-    private void validaUrlImagem(Item item) {
+    private static void validaUrlImagem(Item item) {
         if (StringUtils.isEmpty(item.getUrlImagem())) {
             throw new IllegalArgumentException("Url da imagem do item deve ser informada.");
         }
@@ -0,0 +1 @@
+alter sequence sq_item_change increment by 50;
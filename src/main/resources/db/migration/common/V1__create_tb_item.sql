@@ -0,0 +1,10 @@
+create table tb_item (
+    id uuid not null,
+    nome varchar(255) not null,
+    preco double precision not null,
+    descricao varchar(255) not null,
+    categoria varchar(255) not null,
+    url_imagem varchar(255) not null,
+    quantidade bigint not null,
+    constraint pk_item primary key (id)
+);
@@ -0,0 +1,2 @@
+create unique index ux_item_nome on tb_item (nome);
+create index ix_item_categoria_preco on tb_item (categoria, preco);
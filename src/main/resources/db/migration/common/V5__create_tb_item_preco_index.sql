@@ -0,0 +1 @@
+create index ix_item_preco on tb_item (preco);
@@ -0,0 +1 @@
+alter table tb_item add column versao bigint default 0 not null;
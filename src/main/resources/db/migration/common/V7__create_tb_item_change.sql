@@ -0,0 +1,9 @@
+create sequence sq_item_change start with 1 increment by 1;
+create table tb_item_change (
+    sequencia bigint not null,
+    item_id uuid not null,
+    operacao varchar(16) not null,
+    ocorrido_em timestamp with time zone not null,
+    constraint pk_item_change primary key (sequencia)
+);
+create index ix_item_change_item_id on tb_item_change (item_id, sequencia);
@@ -0,0 +1,4 @@
+alter table tb_item add column criado_em timestamp with time zone default current_timestamp not null;
+alter table tb_item add column atualizado_em timestamp with time zone default current_timestamp not null;
+create index ix_item_criado_em on tb_item (criado_em);
+create index ix_item_atualizado_em on tb_item (atualizado_em, id);
@@ -0,0 +1,9 @@
+alter table tb_item_change add column posicao bigint;
+update tb_item_change set posicao = sequencia;
+create unique index ux_item_change_posicao on tb_item_change (posicao);
+create table tb_item_change_posicao (
+    id integer not null,
+    valor bigint not null,
+    constraint pk_item_change_posicao primary key (id)
+);
+insert into tb_item_change_posicao (id, valor) select 1, coalesce(max(sequencia), 0) from tb_item_change;
@@ -0,0 +1,14 @@
+create extension if not exists unaccent;
+
+create or replace function immutable_unaccent(text) returns text as
+$$
+select public.unaccent('public.unaccent', $1)
+$$ language sql immutable parallel safe strict;
+
+alter table tb_item add column busca tsvector generated always as (
+    setweight(to_tsvector('portuguese', immutable_unaccent(nome)), 'A') ||
+    setweight(to_tsvector('portuguese', immutable_unaccent(categoria)), 'B') ||
+    setweight(to_tsvector('portuguese', immutable_unaccent(descricao)), 'C')
+) stored;
+
+create index ix_item_busca on tb_item using gin (busca);
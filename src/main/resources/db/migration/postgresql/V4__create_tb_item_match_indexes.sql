@@ -0,0 +1,8 @@
+create extension if not exists pg_trgm;
+
+create index ix_item_nome_pattern on tb_item (nome text_pattern_ops);
+create index ix_item_nome_lower_pattern on tb_item (lower(nome) text_pattern_ops);
+create index ix_item_nome_trgm on tb_item using gin (nome gin_trgm_ops);
+create index ix_item_nome_lower_trgm on tb_item using gin (lower(nome) gin_trgm_ops);
+create index ix_item_descricao_trgm on tb_item using gin (descricao gin_trgm_ops);
+create index ix_item_descricao_lower_trgm on tb_item using gin (lower(descricao) gin_trgm_ops);
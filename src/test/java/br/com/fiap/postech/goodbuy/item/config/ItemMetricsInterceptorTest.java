@@ -0,0 +1,163 @@
+package br.com.fiap.postech.goodbuy.item.config;
+
+import br.com.fiap.postech.goodbuy.item.dto.ItemChangeBatchDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemFilterDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemMatchMode;
+import br.com.fiap.postech.goodbuy.item.entity.Item;
+import br.com.fiap.postech.goodbuy.item.helper.ItemHelper;
+import br.com.fiap.postech.goodbuy.item.repository.ItemRepository;
+import br.com.fiap.postech.goodbuy.item.service.ItemNaoEncontradoException;
+import br.com.fiap.postech.goodbuy.item.service.ItemService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class ItemMetricsInterceptorTest {
+    private MeterRegistry meterRegistry;
+    private ObjectProvider<MeterRegistry> provider;
+    private ItemService itemService;
+
+    @Mock
+    private ItemService itemServiceTarget;
+    @Mock
+    private ItemRepository itemRepositoryTarget;
+
+    private AutoCloseable mock;
+
+    @BeforeEach
+    void setUp() {
+        mock = MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        var beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        provider = beanFactory.getBeanProvider(MeterRegistry.class);
+        var proxyFactory = new ProxyFactory(itemServiceTarget);
+        proxyFactory.addInterface(ItemService.class);
+        proxyFactory.addAdvisor(MetricsConfiguration.advisor(
+                ItemService.class,
+                new ItemMetricsInterceptor(MetricsConfiguration.ITEM_SERVICE_TIMER, true, provider),
+                MetricsConfiguration.METRICS_ORDER
+        ));
+        itemService = (ItemService) proxyFactory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void deveRegistrarTempoPorOperacaoEFormatoDoFiltro() {
+        // Arrange
+        var filtro = new ItemFilterDTO(null, ItemMatchMode.EXACT, null, 10D, 30D, null, null, "Cerveja", null, false);
+        Page<Item> pagina = new PageImpl<>(List.of(ItemHelper.getItem(true)));
+        when(itemServiceTarget.findAll(any(), any(ItemFilterDTO.class))).thenReturn(pagina);
+        // Act
+        itemService.findAll(PageRequest.of(0, 10), filtro);
+        // Assert
+        var timer = meterRegistry.find(MetricsConfiguration.ITEM_SERVICE_TIMER)
+                .tags("operation", "findAll", "outcome", "SUCCESS", "filter", "precoMin+precoMax+categoria")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void deveContarItemNaoEncontrado() {
+        // Arrange
+        var id = UUID.randomUUID();
+        when(itemServiceTarget.findById(id)).thenThrow(new ItemNaoEncontradoException(id));
+        // Act && Assert
+        assertThatThrownBy(() -> itemService.findById(id)).isInstanceOf(ItemNaoEncontradoException.class);
+        assertThat(meterRegistry.counter(ItemMetricsInterceptor.NOT_FOUND, "operation", "findById").count()).isEqualTo(1);
+        assertThat(meterRegistry.find(MetricsConfiguration.ITEM_SERVICE_TIMER).tag("outcome", "NOT_FOUND").timer())
+                .isNotNull();
+    }
+
+    @Test
+    void deveContarRejeicaoDeValidacao() {
+        // Arrange
+        var item = ItemHelper.getItem(true);
+        when(itemServiceTarget.save(item)).thenThrow(new IllegalArgumentException("o id do item é gerado pelo sistema."));
+        // Act && Assert
+        assertThatThrownBy(() -> itemService.save(item)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(meterRegistry.counter(ItemMetricsInterceptor.VALIDATION_REJECTIONS, "operation", "save").count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.find(ItemMetricsInterceptor.NOT_FOUND).counter()).isNull();
+    }
+
+    @Test
+    void deveMedirAlteracoes_SomenteQuandoFuturoCompletar() {
+        // Arrange
+        var futuro = new CompletableFuture<ItemChangeBatchDTO>();
+        when(itemServiceTarget.findChanges(0L, 10, Duration.ofSeconds(30))).thenReturn(futuro);
+        var resultado = itemService.findChanges(0L, 10, Duration.ofSeconds(30));
+        assertThat(meterRegistry.find(MetricsConfiguration.ITEM_SERVICE_TIMER).tag("operation", "findChanges").timer())
+                .isNull();
+        // Act
+        futuro.complete(new ItemChangeBatchDTO(List.of(), 0L, false));
+        // Assert
+        assertThat(resultado).isDone();
+        var timer = meterRegistry.find(MetricsConfiguration.ITEM_SERVICE_TIMER)
+                .tags("operation", "findChanges", "outcome", "SUCCESS")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void deveRegistrarResultadoDoFuturo_QuandoFalhar() {
+        // Arrange
+        var futuro = new CompletableFuture<ItemChangeBatchDTO>();
+        when(itemServiceTarget.findChanges(0L, 10, Duration.ofSeconds(30))).thenReturn(futuro);
+        itemService.findChanges(0L, 10, Duration.ofSeconds(30));
+        // Act
+        futuro.completeExceptionally(new CompletionException(new IllegalStateException("falha")));
+        // Assert
+        assertThat(meterRegistry.find(MetricsConfiguration.ITEM_SERVICE_TIMER)
+                .tags("operation", "findChanges", "outcome", "ERROR")
+                .timer()).isNotNull();
+    }
+
+    @Test
+    void deveRegistrarTempoDoRepositorio_SemTagDeFiltro() {
+        // Arrange
+        var proxyFactory = new ProxyFactory(itemRepositoryTarget);
+        proxyFactory.addInterface(ItemRepository.class);
+        proxyFactory.addAdvisor(MetricsConfiguration.advisor(
+                ItemRepository.class,
+                new ItemMetricsInterceptor(MetricsConfiguration.ITEM_REPOSITORY_TIMER, false, provider),
+                MetricsConfiguration.METRICS_ORDER
+        ));
+        var itemRepository = (ItemRepository) proxyFactory.getProxy();
+        // Act
+        itemRepository.findQuantidadeById(UUID.randomUUID());
+        // Assert
+        var timer = meterRegistry.find(MetricsConfiguration.ITEM_REPOSITORY_TIMER)
+                .tags("operation", "findQuantidadeById", "outcome", "SUCCESS")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.getId().getTag("filter")).isNull();
+    }
+}
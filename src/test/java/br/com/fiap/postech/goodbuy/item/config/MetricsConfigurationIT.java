@@ -0,0 +1,94 @@
+package br.com.fiap.postech.goodbuy.item.config;
+
+import br.com.fiap.postech.goodbuy.item.service.ItemService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.BeanFactoryCacheOperationSourceAdvisor;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+public class MetricsConfigurationIT {
+    private final ItemService itemService;
+    private final MeterRegistry meterRegistry;
+    private final CacheManager cacheManager;
+
+    @Autowired
+    public MetricsConfigurationIT(ItemService itemService, MeterRegistry meterRegistry, CacheManager cacheManager) {
+        this.itemService = itemService;
+        this.meterRegistry = meterRegistry;
+        this.cacheManager = cacheManager;
+    }
+
+    @Test
+    void deveAplicarTracingEMetricasAntesDoCache() {
+        // Act
+        List<Advisor> advisors = Arrays.asList(((Advised) itemService).getAdvisors());
+        // Assert
+        int tracing = indice(advisors, advisor -> advisor.getAdvice() instanceof ItemObservationInterceptor);
+        int metricas = indice(advisors, advisor -> advisor.getAdvice() instanceof ItemMetricsInterceptor);
+        int cache = indice(advisors, advisor -> advisor instanceof BeanFactoryCacheOperationSourceAdvisor);
+        assertThat(tracing).isNotNegative();
+        assertThat(metricas).isGreaterThan(tracing);
+        assertThat(cache).isGreaterThan(metricas);
+    }
+
+    @Test
+    void deveMedirChamadaDoServicoUmaVez() {
+        // Arrange
+        long servico = contagem(MetricsConfiguration.ITEM_SERVICE_TIMER);
+        // Act
+        itemService.findById(UUID.fromString("e83807a3-31fc-4b56-988c-93eb36f13925"));
+        // Assert
+        assertThat(contagem(MetricsConfiguration.ITEM_SERVICE_TIMER) - servico).isEqualTo(1);
+        assertThat(meterRegistry.find(TracingConfiguration.ITEM_SERVICE_OBSERVATION).meters()).isEmpty();
+        assertThat(meterRegistry.find(TracingConfiguration.ITEM_SERVICE_OBSERVATION + ".active").meters()).isEmpty();
+    }
+
+    @Test
+    void deveMedirBuscaEmCache_SemConsultarORepositorio() {
+        // Arrange
+        var id = UUID.fromString("e83807a3-31fc-4b56-988c-93eb36f13925");
+        var itemCache = cacheManager.getCache(CacheConfiguration.ITEM_CACHE);
+        assertThat(itemCache).isNotNull();
+        itemCache.evict(id);
+        long servico = contagem(MetricsConfiguration.ITEM_SERVICE_TIMER);
+        long repositorio = contagem(MetricsConfiguration.ITEM_REPOSITORY_TIMER);
+        // Act
+        itemService.findById(id);
+        itemService.findById(id);
+        // Assert
+        assertThat(contagem(MetricsConfiguration.ITEM_SERVICE_TIMER) - servico).isEqualTo(2);
+        assertThat(contagem(MetricsConfiguration.ITEM_REPOSITORY_TIMER) - repositorio).isEqualTo(1);
+    }
+
+    private long contagem(String metrica) {
+        return meterRegistry.find(metrica).tag("operation", "findById").timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    private static int indice(List<Advisor> advisors, Predicate<Advisor> criterio) {
+        for (int i = 0; i < advisors.size(); i++) {
+            if (criterio.test(advisors.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.fiap.postech.goodbuy.item.config;
+
+import br.com.fiap.postech.goodbuy.item.dto.ItemFilterDTO;
+import br.com.fiap.postech.goodbuy.item.entity.Item;
+import br.com.fiap.postech.goodbuy.item.service.ItemService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:item-replica-primary;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "item.datasource.replica.enabled=true",
+        "item.datasource.replica.urls=" + ReplicaRoutingCacheIT.REPLICA_URL,
+        "item.datasource.replica.lag-query=select 0",
+        "item.datasource.replica.lag-check-interval=0s"
+})
+@ActiveProfiles("test")
+public class ReplicaRoutingCacheIT {
+    static final String REPLICA_URL = "jdbc:h2:mem:item-replica-atrasada;DB_CLOSE_DELAY=-1";
+    private static final UUID ID = UUID.fromString("759ae7fa-2cd2-46ef-9c54-737a4d9d408d");
+    private static final UUID OUTRO_ID = UUID.fromString("b04fa8fb-2de7-4589-9606-94e834acf310");
+
+    private final ItemService itemService;
+    private final CacheManager cacheManager;
+    private final JdbcTemplate primario;
+    private final JdbcTemplate replica;
+
+    @Autowired
+    public ReplicaRoutingCacheIT(ItemService itemService, CacheManager cacheManager, DataSource dataSource) {
+        this.itemService = itemService;
+        this.cacheManager = cacheManager;
+        this.primario = new JdbcTemplate(dataSource);
+        this.replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+    }
+
+    @BeforeEach
+    void setUp() {
+        replica.execute("""
+                create table if not exists tb_item (
+                    id uuid not null primary key,
+                    nome varchar(255) not null,
+                    preco double precision not null,
+                    descricao varchar(255) not null,
+                    categoria varchar(255) not null,
+                    url_imagem varchar(255) not null,
+                    quantidade bigint not null,
+                    versao bigint not null,
+                    criado_em timestamp with time zone not null,
+                    atualizado_em timestamp with time zone not null
+                )""");
+        replica.update("delete from tb_item");
+        primario.queryForList("select * from tb_item where id in (?, ?)", ID, OUTRO_ID).forEach(linha -> replica.update(
+                "insert into tb_item (id, nome, preco, descricao, categoria, url_imagem, quantidade, versao, criado_em, atualizado_em) "
+                        + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                linha.get("ID"), linha.get("NOME"), linha.get("PRECO"), linha.get("DESCRICAO"), linha.get("CATEGORIA"),
+                linha.get("URL_IMAGEM"), linha.get("QUANTIDADE"), linha.get("VERSAO"), linha.get("CRIADO_EM"),
+                linha.get("ATUALIZADO_EM")
+        ));
+        cache(CacheConfiguration.ITEM_CACHE).clear();
+        cache(CacheConfiguration.ITEM_COUNT_CACHE).clear();
+    }
+
+    @Test
+    void naoDeveRepovoarCacheComVersaoDaReplica_QuandoBuscarPorIdAposAtualizacao() {
+        // Arrange
+        var atualizado = atualizaPreco(ID);
+        // Act
+        var item = itemService.findById(ID);
+        // Assert
+        assertThat(item.getVersao()).isEqualTo(atualizado.getVersao());
+        assertThat(cache(CacheConfiguration.ITEM_CACHE).get(ID, Item.class))
+                .extracting(Item::getVersao, Item::getPreco)
+                .containsExactly(atualizado.getVersao(), atualizado.getPreco());
+        assertThat(itemService.findVersaoById(ID)).isEqualTo(atualizado.getVersao());
+    }
+
+    @Test
+    void naoDeveRepovoarCacheComVersaoDaReplica_QuandoBuscarEmLoteAposAtualizacao() {
+        // Arrange
+        var atualizado = atualizaPreco(OUTRO_ID);
+        // Act
+        var batch = itemService.findAllById(List.of(OUTRO_ID));
+        // Assert
+        assertThat(batch.items()).extracting(Item::getVersao).containsExactly(atualizado.getVersao());
+        assertThat(cache(CacheConfiguration.ITEM_CACHE).get(OUTRO_ID, Item.class))
+                .extracting(Item::getVersao)
+                .isEqualTo(atualizado.getVersao());
+    }
+
+    @Test
+    void naoDeveGuardarContagemLidaNaReplica() {
+        // Arrange
+        var filtro = new ItemFilterDTO(null, null, null, null, null, null, null, null, null, false);
+        // Act
+        var page = itemService.findAll(PageRequest.of(0, 1), filtro);
+        // Assert
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(cache(CacheConfiguration.ITEM_COUNT_CACHE).get(filtro)).isNull();
+    }
+
+    private Item atualizaPreco(UUID id) {
+        var alteracao = new Item();
+        alteracao.setPreco(primario.queryForObject("select preco from tb_item where id = ?", Double.class, id) + 1);
+        return itemService.update(id, alteracao);
+    }
+
+    private Cache cache(String nome) {
+        Cache cache = cacheManager.getCache(nome);
+        assertThat(cache).isNotNull();
+        return cache;
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.fiap.postech.goodbuy.item.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+    private static final String LAG_QUERY = "select atraso";
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void deveDirecionarLeituraParaReplicas() throws Exception {
+        // Arrange
+        var routing = routing(replica(0.5), replica(1));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        // Act
+        var primeira = routing.determineCurrentLookupKey();
+        var segunda = routing.determineCurrentLookupKey();
+        // Assert
+        assertThat(List.of(primeira, segunda)).containsExactlyInAnyOrder("replica-0", "replica-1");
+    }
+
+    @Test
+    void deveDirecionarEscritaParaPrimario() throws Exception {
+        // Arrange
+        var routing = routing(replica(0));
+        // Act
+        var chave = routing.determineCurrentLookupKey();
+        // Assert
+        assertThat(chave).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void deveIgnorarReplicaComAtrasoAcimaDoLimite() throws Exception {
+        // Arrange
+        var routing = routing(replica(30), replica(0));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        // Act
+        var chave = routing.determineCurrentLookupKey();
+        // Assert
+        assertThat(routing.getDisponiveis()).containsExactly("replica-1");
+        assertThat(chave).isEqualTo("replica-1");
+    }
+
+    @Test
+    void deveDirecionarLeituraParaPrimario_QuandoNenhumaReplicaDisponivel() throws Exception {
+        // Arrange
+        var replicaIndisponivel = mock(DataSource.class);
+        when(replicaIndisponivel.getConnection()).thenThrow(new SQLException("connection refused"));
+        var routing = routing(replicaIndisponivel, replica(30));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        // Act
+        var chave = routing.determineCurrentLookupKey();
+        // Assert
+        assertThat(routing.getDisponiveis()).isEmpty();
+        assertThat(chave).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    private static ReplicaRoutingDataSource routing(DataSource... replicas) {
+        var routing = new ReplicaRoutingDataSource(
+                mock(DataSource.class), List.of(replicas), Duration.ofSeconds(5), Duration.ZERO, LAG_QUERY
+        );
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    private static DataSource replica(double atrasoEmSegundos) throws SQLException {
+        var dataSource = mock(DataSource.class);
+        var connection = mock(Connection.class);
+        var statement = mock(Statement.class);
+        var resultSet = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(atrasoEmSegundos);
+        return dataSource;
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.fiap.postech.goodbuy.item.config;
+
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementStatisticsFilterTest {
+    private MeterRegistry meterRegistry;
+    private StatementStatisticsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new StatementStatisticsFilter(meterRegistry, 2);
+    }
+
+    @Test
+    void deveRegistrarStatementsDaRequisicao() throws Exception {
+        // Arrange
+        var request = request();
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            var estatisticas = RequestStatementStatistics.atual();
+            estatisticas.registraStatement();
+            estatisticas.registraEntidadeCarregada();
+        });
+        // Assert
+        var statements = meterRegistry.find(StatementStatisticsFilter.STATEMENTS)
+                .tags("method", "GET", "uri", "/item/{id}")
+                .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.find(StatementStatisticsFilter.ENTITIES_LOADED).summary().totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.find(StatementStatisticsFilter.STATEMENTS_EXCEEDED).counter()).isNull();
+        assertThat(RequestStatementStatistics.atual()).isNull();
+    }
+
+    @Test
+    void deveSinalizarRequisicaoAcimaDoLimite() throws Exception {
+        // Arrange
+        var request = request();
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            var estatisticas = RequestStatementStatistics.atual();
+            for (int i = 0; i < 3; i++) {
+                estatisticas.registraStatement();
+            }
+        });
+        // Assert
+        var excedidas = meterRegistry.find(StatementStatisticsFilter.STATEMENTS_EXCEEDED)
+                .tags("method", "GET", "uri", "/item/{id}")
+                .counter();
+        assertThat(excedidas).isNotNull();
+        assertThat(excedidas.count()).isEqualTo(1);
+    }
+
+    @Test
+    void deveRegistrarStatementsDeOutraThread_AoConcluirRequisicaoAssincrona() throws Exception {
+        // Arrange
+        var request = request();
+        request.setAsyncSupported(true);
+        var tarefa = new AtomicReference<Runnable>();
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.startAsync();
+            tarefa.set(ContextSnapshotFactory.builder().build().captureAll()
+                    .wrap(() -> RequestStatementStatistics.atual().registraStatement()));
+        });
+        var statements = meterRegistry.find(StatementStatisticsFilter.STATEMENTS).summary();
+        var thread = new Thread(tarefa.get());
+        thread.start();
+        thread.join();
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        // Assert
+        assertThat(statements).isNull();
+        var registrados = meterRegistry.find(StatementStatisticsFilter.STATEMENTS)
+                .tags("method", "GET", "uri", "/item/{id}")
+                .summary();
+        assertThat(registrados).isNotNull();
+        assertThat(registrados.count()).isEqualTo(1);
+        assertThat(registrados.totalAmount()).isEqualTo(1);
+    }
+
+    private static MockHttpServletRequest request() {
+        var request = new MockHttpServletRequest("GET", "/goodbuy/item/b04fa8fb-2de7-4589-9606-94e834acf310");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/item/{id}");
+        return request;
+    }
+}
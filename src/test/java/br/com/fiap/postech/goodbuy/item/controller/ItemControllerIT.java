@@ -3,6 +3,7 @@ package br.com.fiap.postech.goodbuy.item.controller;
 import br.com.fiap.postech.goodbuy.item.entity.Item;
 import br.com.fiap.postech.goodbuy.item.helper.ItemHelper;
 import br.com.fiap.postech.goodbuy.item.helper.UserHelper;
+import br.com.fiap.postech.goodbuy.item.service.ItemServiceImpl;
 import br.com.fiap.postech.goodbuy.security.UserDetailsServiceImpl;
 import br.com.fiap.postech.goodbuy.security.enums.UserRole;
 import io.restassured.RestAssured;
@@ -18,11 +19,19 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
@@ -99,6 +108,95 @@ public class ItemControllerIT {
         }
     }
 
+    @Nested
+    class CadastrarItemsEmLote {
+        @Test
+        void devePermitirCadastrarItemsEmLote() {
+            var user = UserHelper.getUser(UserRole.ADMIN);
+            var userDetails = UserHelper.getUserDetails(user);
+            when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+
+            var itemNovo = ItemHelper.getItem(false);
+            itemNovo.setNome("Fullers Frontier");
+            var itemExistente = ItemHelper.getItem(false);
+            itemExistente.setNome("Fullers London Pride");
+            given()
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                    .body(List.of(itemNovo, itemExistente))
+                    .when()
+                    .post(ITEM + "/bulk")
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("total", equalTo(2))
+                    .body("imported", equalTo(1))
+                    .body("errors.line", contains(2));
+        }
+
+        @Test
+        void devePermitirCadastrarItemsEmLote_ndjson() {
+            var user = UserHelper.getUser(UserRole.ADMIN);
+            var userDetails = UserHelper.getUserDetails(user);
+            when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+
+            var ndjson = """
+                    {"nome":"Fullers Honey Dew","preco":27.5,"descricao":"Golden Ale","categoria":"Cerveja","urlImagem":"urlDaHD","quantidade":10}
+                    {"nome":"Fullers Vintage Ale","preco":-1,"descricao":"Strong Ale","categoria":"Cerveja","urlImagem":"urlDaVA","quantidade":10}
+                    """;
+            given()
+                    .contentType(ItemController.APPLICATION_NDJSON_VALUE)
+                    .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                    .body(ndjson)
+                    .when()
+                    .post(ITEM + "/bulk")
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("total", equalTo(2))
+                    .body("imported", equalTo(1))
+                    .body("errors.message", contains("Preço deve ser maior que zero."));
+        }
+
+        @Test
+        void devePermitirCadastrarItemsEmLote_ndjsonComLinhaInvalida() {
+            var user = UserHelper.getUser(UserRole.ADMIN);
+            var userDetails = UserHelper.getUserDetails(user);
+            when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+
+            var ndjson = """
+                    {"nome":"Fullers Oliver's Island","preco":25.9,"descricao":"Golden Beer","categoria":"Cerveja","urlImagem":"urlDaOI","quantidade":10}
+                    {"nome":"Fullers Summer Ale",
+                    {"nome":"Fullers Seafarers","preco":24.9,"descricao":"Session Ale","categoria":"Cerveja","urlImagem":"urlDaSF","quantidade":10}
+                    """;
+            given()
+                    .contentType(ItemController.APPLICATION_NDJSON_VALUE)
+                    .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                    .body(ndjson)
+                    .when()
+                    .post(ITEM + "/bulk")
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("total", equalTo(3))
+                    .body("imported", equalTo(2))
+                    .body("errors.line", contains(2));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoCadastrarItemsEmLote_UserNaoAdministrativo() {
+            var user = UserHelper.getUser(UserRole.USER);
+            var userDetails = UserHelper.getUserDetails(user);
+            when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+
+            given()
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                    .body(List.of(ItemHelper.getItem(false)))
+                    .when()
+                    .post(ITEM + "/bulk")
+                    .then()
+                    .statusCode(HttpStatus.FORBIDDEN.value());
+        }
+    }
+
     @Nested
     class BuscarItem {
         @Test
@@ -115,9 +213,34 @@ public class ItemControllerIT {
                 .get(ITEM + "/{id}", id)
             .then()
                 .statusCode(HttpStatus.OK.value())
+                .header(HttpHeaders.ETAG, notNullValue())
                 .body(matchesJsonSchemaInClasspath("schemas/item.schema.json"));
         }
 
+        @Test
+        void devePermitirBuscarItemPorId_naoModificado() {
+            var user = UserHelper.getUser(UserRole.USER);
+            var userDetails = UserHelper.getUserDetails(user);
+            when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+
+            var id = "759ae7fa-2cd2-46ef-9c54-737a4d9d408d";
+            var etag = given()
+                .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+            .when()
+                .get(ITEM + "/{id}", id)
+            .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract().header(HttpHeaders.ETAG);
+            given()
+                .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+            .when()
+                .get(ITEM + "/{id}", id)
+            .then()
+                .statusCode(HttpStatus.NOT_MODIFIED.value())
+                .header(HttpHeaders.ETAG, equalTo(etag));
+        }
+
         @Test
         void devePermitirBuscarItemPorId() {
             var user = UserHelper.getUser(UserRole.USER);
@@ -151,6 +274,116 @@ public class ItemControllerIT {
                 .statusCode(HttpStatus.BAD_REQUEST.value());
         }
 
+        @Test
+        void devePermitirBuscarItemsPorTexto() {
+            var user = UserHelper.getUser(UserRole.USER);
+            var userDetails = UserHelper.getUserDetails(user);
+            when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+
+            given()
+                    .queryParam("q", "LONDON Ále")
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                    .when()
+                    .get(ITEM + "/search")
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("content.nome", contains("Fullers London Pride"));
+        }
+
+        @Test
+        void devePermitirBuscarItemsPorCursor() {
+            var user = UserHelper.getUser(UserRole.USER);
+            var userDetails = UserHelper.getUserDetails(user);
+            when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+
+            String nextCursor = given()
+                    .queryParam("size", "1")
+                    .queryParam("categoria", "Cerveja")
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                    .when()
+                    .get(ITEM + "/scroll")
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("content", hasSize(1))
+                    .body("hasNext", equalTo(true))
+                    .body("nextCursor", notNullValue())
+                    .extract().path("nextCursor");
+
+            given()
+                    .queryParam("cursor", nextCursor)
+                    .queryParam("size", "1")
+                    .queryParam("categoria", "Cerveja")
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                    .when()
+                    .get(ITEM + "/scroll")
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("content", hasSize(1));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarItemsPorCursor_cursorInvalido() {
+            var user = UserHelper.getUser(UserRole.USER);
+            var userDetails = UserHelper.getUserDetails(user);
+            when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+
+            given()
+                    .queryParam("cursor", "invalido")
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                    .when()
+                    .get(ITEM + "/scroll")
+                    .then()
+                    .statusCode(HttpStatus.BAD_REQUEST.value())
+                    .body(equalTo("Cursor inválido."));
+        }
+
+        @Test
+        void devePermitirBuscarItemsPorIds() {
+            var user = UserHelper.getUser(UserRole.USER);
+            var userDetails = UserHelper.getUserDetails(user);
+            when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+
+            var id = "b04fa8fb-2de7-4589-9606-94e834acf310";
+            var idInexistente = ItemHelper.getItem(true).getId().toString();
+            given()
+                    .queryParam("ids", id + "," + idInexistente)
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                    .when()
+                    .get(ITEM + "/batch")
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("items.id", contains(id))
+                    .body("missingIds", contains(idInexistente));
+        }
+
+        @Test
+        void devePermitirBuscarItemsPorIds_noCorpoComLimiteMaximo() {
+            var user = UserHelper.getUser(UserRole.USER);
+            var userDetails = UserHelper.getUserDetails(user);
+            when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+
+            List<String> ids = new ArrayList<>();
+            ids.add("b04fa8fb-2de7-4589-9606-94e834acf310");
+            while (ids.size() < ItemServiceImpl.MAX_BATCH_SIZE) {
+                ids.add(UUID.randomUUID().toString());
+            }
+            given()
+                    .body(ids)
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                    .when()
+                    .post(ITEM + "/batch")
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("items.id", contains(ids.get(0)))
+                    .body("missingIds", hasSize(ItemServiceImpl.MAX_BATCH_SIZE - 1));
+        }
+
         @Test
         void devePermitirBuscarTodosItem_userAdmin() {
             var user = UserHelper.getUser(UserRole.ADMIN);
@@ -183,6 +416,88 @@ public class ItemControllerIT {
                     .body(matchesJsonSchemaInClasspath("schemas/item.page.schema.json"));
         }
 
+        @Test
+        void devePermitirBuscarTodosItem_porPrefixoIgnorandoCaixa() {
+            var user = UserHelper.getUser(UserRole.USER);
+            var userDetails = UserHelper.getUserDetails(user);
+            when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+
+            given()
+                    .queryParam("nome", "fullers london")
+                    .queryParam("nomeMatch", "PREFIX")
+                    .queryParam("ignoreCase", "true")
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                    .when()
+                    .get(ITEM)
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body(matchesJsonSchemaInClasspath("schemas/item.page.schema.json"))
+                    .body("content.nome", contains("Fullers London Pride"));
+        }
+
+        @Test
+        void devePermitirExportarItemsEmNdjson() {
+            var user = UserHelper.getUser(UserRole.USER);
+            var userDetails = UserHelper.getUserDetails(user);
+            when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+
+            var corpo = given()
+                    .queryParam("categoria", "Cerveja")
+                    .accept(ItemController.APPLICATION_NDJSON_VALUE)
+                    .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                    .when()
+                    .get(ITEM + "/export")
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .extract().asString();
+            assertThat(corpo.lines())
+                    .isNotEmpty()
+                    .allSatisfy(linha -> assertThat(linha).startsWith("{").endsWith("}"))
+                    .anySatisfy(linha -> assertThat(linha).contains("\"nome\":\"Fullers London Pride\""));
+        }
+
+        @Test
+        void devePermitirBuscarTodosItem_semTotal() {
+            var user = UserHelper.getUser(UserRole.USER);
+            var userDetails = UserHelper.getUserDetails(user);
+            when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+
+            given()
+                    .queryParam("size", "1")
+                    .queryParam("withTotal", "false")
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                    .when()
+                    .get(ITEM)
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("content", hasSize(1))
+                    .body("last", equalTo(false))
+                    .body("$", not(hasKey("totalElements")));
+        }
+
+        @Test
+        void devePermitirBuscarTodosItem_apenasCamposInformados() {
+            var user = UserHelper.getUser(UserRole.USER);
+            var userDetails = UserHelper.getUserDetails(user);
+            when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+
+            given()
+                    .queryParam("fields", "nome,preco")
+                    .queryParam("size", "1")
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                    .when()
+                    .get(ITEM)
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .body("content", hasSize(1))
+                    .body("content[0]", hasKey("nome"))
+                    .body("content[0]", not(hasKey("descricao")))
+                    .body("content[0]", not(hasKey("urlImagem")));
+        }
+
         @Test
         void devePermitirBuscarTodosItem_ComPaginacao_userAdmin() {
             var user = UserHelper.getUser(UserRole.ADMIN);
@@ -248,6 +563,42 @@ public class ItemControllerIT {
                 .body(matchesJsonSchemaInClasspath("schemas/item.schema.json"));
         }
 
+        @Test
+        void deveGerarExcecao_QuandoAlterarItem_ifMatchDesatualizado() {
+            var user = UserHelper.getUser(UserRole.ADMIN);
+            var userDetails = UserHelper.getUserDetails(user);
+            when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+
+            var item = new Item(null, null, null, null, "urlDesatualizada", null);
+            given()
+                .body(item)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                .header(HttpHeaders.IF_MATCH, "\"99\"")
+            .when()
+                .put(ITEM + "/{id}", "759ae7fa-2cd2-46ef-9c54-737a4d9d408d")
+            .then()
+                .statusCode(HttpStatus.PRECONDITION_FAILED.value());
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoAlterarItem_NomeExistente() {
+            var user = UserHelper.getUser(UserRole.ADMIN);
+            var userDetails = UserHelper.getUserDetails(user);
+            when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+
+            var item = new Item("Fullers London Pride", null, null, null, null, null);
+            given()
+                .body(item)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+            .when()
+                .put(ITEM + "/{id}", "759ae7fa-2cd2-46ef-9c54-737a4d9d408d")
+            .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body(equalTo("Já existe um item cadastrado com esse nome."));
+        }
+
         @Test
         void deveGerarExcecao_QuandoAlterarItem_UserNaoAdministrativo() {
             var user = UserHelper.getUser(UserRole.USER);
@@ -379,4 +730,60 @@ public class ItemControllerIT {
                     .body(equalTo("item não tem perfil para executar essa operação"));
         }*/
     }
+
+    @Nested
+    class BuscarAlteracoes {
+        @Test
+        void devePermitirBuscarAlteracoes_aposCadastrarItem() {
+            var user = UserHelper.getUser(UserRole.ADMIN);
+            var userDetails = UserHelper.getUserDetails(user);
+            when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+
+            var nextSince = given()
+                .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                .queryParam("since", 0)
+                .queryParam("limit", 1000)
+            .when()
+                .get(ITEM + "/changes")
+            .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract().jsonPath().getLong("nextSince");
+            var id = given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                .body(ItemHelper.getItem(false))
+            .when()
+                .post(ITEM)
+            .then()
+                .statusCode(HttpStatus.CREATED.value())
+                .extract().jsonPath().getString("id");
+            given()
+                .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                .queryParam("since", nextSince)
+                .queryParam("wait", 5)
+            .when()
+                .get(ITEM + "/changes")
+            .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("changes.id", contains(id))
+                .body("changes[0].operacao", equalTo("CREATED"))
+                .body("changes[0].item.id", equalTo(id));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarAlteracoes_esperaInvalida() {
+            var user = UserHelper.getUser(UserRole.USER);
+            var userDetails = UserHelper.getUserDetails(user);
+            when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+
+            given()
+                .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                .queryParam("wait", 120)
+            .when()
+                .get(ITEM + "/changes")
+            .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body(equalTo("A espera deve estar entre 0 e 60 segundos."));
+        }
+    }
 }
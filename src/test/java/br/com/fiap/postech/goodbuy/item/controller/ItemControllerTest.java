@@ -1,8 +1,23 @@
 package br.com.fiap.postech.goodbuy.item.controller;
 
+import br.com.fiap.postech.goodbuy.item.dto.ItemBatchDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemChangeBatchDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemChangeDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemFilterDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemImportResultDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemMatchMode;
+import br.com.fiap.postech.goodbuy.item.dto.ItemScrollDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemStockBatchDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemStockDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemStockRequestDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemStockStatus;
 import br.com.fiap.postech.goodbuy.item.entity.Item;
+import br.com.fiap.postech.goodbuy.item.entity.ItemChangeOperation;
+import br.com.fiap.postech.goodbuy.item.entity.ItemReadModel;
 import br.com.fiap.postech.goodbuy.item.helper.ItemHelper;
+import br.com.fiap.postech.goodbuy.item.service.EstoqueInsuficienteException;
 import br.com.fiap.postech.goodbuy.item.service.ItemService;
+import br.com.fiap.postech.goodbuy.item.service.ItemServiceImpl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,20 +25,35 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class ItemControllerTest {
@@ -38,7 +68,7 @@ class ItemControllerTest {
     void setUp() {
 
         mock = MockitoAnnotations.openMocks(this);
-        ItemController itemController = new ItemController(itemService);
+        ItemController itemController = new ItemController(itemService, new ObjectMapper());
         mockMvc = MockMvcBuilders.standaloneSetup(itemController).build();
     }
 
@@ -81,8 +111,64 @@ class ItemControllerTest {
             verify(itemService, never()).save(any(Item.class));
         }
     }
+    @Nested
+    class CadastrarItemsEmLote {
+        @Test
+        void devePermitirCadastrarItemsEmLote() throws Exception {
+            // Arrange
+            var items = List.of(ItemHelper.getItem(false), ItemHelper.getItem(false));
+            when(itemService.saveAll(any())).thenReturn(new ItemImportResultDTO(2, 2, List.of()));
+            // Act
+            mockMvc.perform(
+                            post("/item/bulk").contentType(MediaType.APPLICATION_JSON)
+                                    .content(asJsonString(items)))
+                    .andExpect(status().isOk());
+            // Assert
+            verify(itemService, times(1)).saveAll(any());
+        }
+
+        @Test
+        void devePermitirCadastrarItemsEmLote_ndjson() throws Exception {
+            // Arrange
+            var ndjson = asJsonString(ItemHelper.getItem(false)) + "\n" + asJsonString(ItemHelper.getItem(false)) + "\n";
+            when(itemService.saveAll(any())).thenReturn(new ItemImportResultDTO(2, 2, List.of()));
+            // Act
+            mockMvc.perform(
+                            post("/item/bulk").contentType(ItemController.APPLICATION_NDJSON_VALUE)
+                                    .content(ndjson))
+                    .andExpect(status().isOk());
+            // Assert
+            verify(itemService, times(1)).saveAll(any());
+        }
+    }
+
     @Nested
     class BuscarItem {
+        @Test
+        void devePermitirExportarItemsEmNdjson() throws Exception {
+            // Arrange
+            var item = new ItemReadModel(UUID.randomUUID(), "Fullers ESB", 29.12, "Extra Special Bitter", "Cerveja", "urldaImagemDaESB", 4312L, 0L, null, null);
+            var atualizadoDesde = Instant.parse("2024-05-01T00:00:00Z");
+            when(itemService.export(eq("Cerveja"), eq(atualizadoDesde), any())).thenAnswer(r -> {
+                Consumer<ItemReadModel> consumidor = r.getArgument(2);
+                consumidor.accept(item);
+                consumidor.accept(item);
+                return 2L;
+            });
+            // Act
+            var resultado = mockMvc.perform(get("/item/export")
+                            .param("categoria", "Cerveja")
+                            .param("updatedSince", "2024-05-01T00:00:00Z"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(resultado))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(ItemController.APPLICATION_NDJSON_VALUE));
+            // Assert
+            assertThat(resultado.getResponse().getContentAsString().lines()).hasSize(2)
+                    .allSatisfy(linha -> assertThat(linha).contains("\"nome\":\"Fullers ESB\""));
+        }
+
         @Test
         void devePermitirBuscarItemPorId() throws Exception {
             // Arrange
@@ -94,6 +180,36 @@ class ItemControllerTest {
             // Assert
             verify(itemService, times(1)).findById(any(UUID.class));
         }
+        @Test
+        void devePermitirBuscarItemPorId_naoModificado() throws Exception {
+            // Arrange
+            var id = UUID.randomUUID();
+            when(itemService.findVersaoById(id)).thenReturn(3L);
+            // Act
+            mockMvc.perform(get("/item/{id}", id.toString())
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+            // Assert
+            verify(itemService, never()).findById(any(UUID.class));
+        }
+
+        @Test
+        void devePermitirBuscarItemPorId_modificado() throws Exception {
+            // Arrange
+            var item = ItemHelper.getItem(true);
+            item.setVersao(4L);
+            when(itemService.findVersaoById(item.getId())).thenReturn(4L);
+            when(itemService.findById(item.getId())).thenReturn(item);
+            // Act
+            mockMvc.perform(get("/item/{id}", item.getId().toString())
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+            // Assert
+            verify(itemService, times(1)).findById(item.getId());
+        }
+
         @Test
         void deveGerarExcecao_QuandoBuscarItemPorId_idNaoExiste() throws Exception {
             // Arrange
@@ -106,6 +222,103 @@ class ItemControllerTest {
             verify(itemService, times(1)).findById(item.getId());
         }
 
+        @Test
+        void devePermitirBuscarItemsPorTexto() throws Exception {
+            // Arrange
+            var pageable = PageRequest.of(0, 10);
+            when(itemService.search(anyString(), any()))
+                    .thenReturn(new SliceImpl<>(List.of(ItemHelper.getItem(true)), pageable, false));
+            // Act
+            mockMvc.perform(get("/item/search")
+                            .param("q", "london ale"))
+                    .andExpect(status().isOk());
+            // Assert
+            verify(itemService, times(1)).search("london ale", pageable);
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarItemsPorTexto_semTermo() throws Exception {
+            // Arrange
+            when(itemService.search(anyString(), any())).thenThrow(IllegalArgumentException.class);
+            // Act
+            mockMvc.perform(get("/item/search")
+                            .param("q", " "))
+                    .andExpect(status().isBadRequest());
+            // Assert
+            verify(itemService, times(1)).search(anyString(), any());
+        }
+
+        @Test
+        void devePermitirBuscarItemsPorCursor() throws Exception {
+            // Arrange
+            var item = ItemHelper.getItem(true);
+            when(itemService.scroll(any(), anyInt(), any(Item.class)))
+                    .thenReturn(new ItemScrollDTO(List.of(item), 1, false, null));
+            // Act
+            mockMvc.perform(get("/item/scroll")
+                            .param("size", "1")
+                            .param("categoria", item.getCategoria()))
+                    .andExpect(status().isOk());
+            // Assert
+            verify(itemService, times(1)).scroll(null, 1, new Item(null, null, null, item.getCategoria(), null, null));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarItemsPorCursor_cursorInvalido() throws Exception {
+            // Arrange
+            when(itemService.scroll(anyString(), anyInt(), any(Item.class))).thenThrow(IllegalArgumentException.class);
+            // Act
+            mockMvc.perform(get("/item/scroll")
+                            .param("cursor", "invalido"))
+                    .andExpect(status().isBadRequest());
+            // Assert
+            verify(itemService, times(1)).scroll(anyString(), anyInt(), any(Item.class));
+        }
+
+        @Test
+        void devePermitirBuscarItemsPorIds() throws Exception {
+            // Arrange
+            var item = ItemHelper.getItem(true);
+            var idInexistente = UUID.randomUUID();
+            when(itemService.findAllById(anyList())).thenReturn(new ItemBatchDTO(List.of(item), List.of(idInexistente)));
+            // Act
+            mockMvc.perform(get("/item/batch")
+                            .param("ids", item.getId() + "," + idInexistente))
+                    .andExpect(status().isOk());
+            // Assert
+            verify(itemService, times(1)).findAllById(List.of(item.getId(), idInexistente));
+        }
+
+        @Test
+        void devePermitirBuscarItemsPorIds_noCorpoComLimiteMaximo() throws Exception {
+            // Arrange
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < ItemServiceImpl.MAX_BATCH_SIZE; i++) {
+                ids.add(UUID.randomUUID());
+            }
+            when(itemService.findAllById(anyList())).thenReturn(new ItemBatchDTO(List.of(), ids));
+            // Act
+            mockMvc.perform(post("/item/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(asJsonString(ids)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.missingIds.length()").value(ItemServiceImpl.MAX_BATCH_SIZE));
+            // Assert
+            verify(itemService, times(1)).findAllById(ids);
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarItemsPorIds_excedendoLimite() throws Exception {
+            // Arrange
+            when(itemService.findAllById(anyList())).thenThrow(IllegalArgumentException.class);
+            // Act
+            mockMvc.perform(get("/item/batch")
+                            .param("ids", UUID.randomUUID().toString()))
+                    .andExpect(status().isBadRequest());
+            // Assert
+            verify(itemService, times(1)).findAllById(anyList());
+        }
+
         @Test
         void devePermitirBuscarTodosItem() throws Exception {
             // Arrange
@@ -118,9 +331,10 @@ class ItemControllerTest {
             listItem.add(item);
             Page<Item> items = new PageImpl<>(listItem);
             var pageable = PageRequest.of(page, size);
+            var criterio = ItemFilterDTO.of(criterioItem);
             when(itemService.findAll(
                             pageable,
-                            criterioItem
+                            criterio
                     )
             ).thenReturn(items);
             // Act
@@ -140,7 +354,159 @@ class ItemControllerTest {
             //.andExpect(jsonPath("$.totalElements").value(1))
             ;
             // Assert
-            verify(itemService, times(1)).findAll(pageable, criterioItem);
+            verify(itemService, times(1)).findAll(pageable, criterio);
+        }
+
+        @Test
+        void devePermitirBuscarTodosItem_porPrefixoIgnorandoCaixa() throws Exception {
+            // Arrange
+            var pageable = PageRequest.of(0, 10);
+            var criterio = new ItemFilterDTO(
+                    "fullers", ItemMatchMode.PREFIX, null, null, null, "ale", ItemMatchMode.CONTAINS, null, null, true
+            );
+            when(itemService.findAll(any(), any(ItemFilterDTO.class)))
+                    .thenReturn(new PageImpl<>(List.of(ItemHelper.getItem(true)), pageable, 1));
+            // Act
+            mockMvc.perform(
+                            get("/item")
+                                    .param("nome", "fullers")
+                                    .param("nomeMatch", "PREFIX")
+                                    .param("descricao", "ale")
+                                    .param("descricaoMatch", "CONTAINS")
+                                    .param("ignoreCase", "true")
+                    )
+                    .andExpect(status().isOk());
+            // Assert
+            verify(itemService, times(1)).findAll(pageable, criterio);
+        }
+    }
+
+    @Nested
+    class BuscarItemPorFaixa {
+        @Test
+        void devePermitirBuscarTodosItem_porFaixaOrdenado() throws Exception {
+            // Arrange
+            var pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("preco"), Sort.Order.asc("nome"), Sort.Order.asc("id")));
+            var criterio = new ItemFilterDTO(null, null, null, 10D, 30D, null, null, "Cerveja", 1L, false);
+            when(itemService.findAll(any(), any(ItemFilterDTO.class)))
+                    .thenReturn(new PageImpl<>(List.of(ItemHelper.getItem(true)), pageable, 1));
+            // Act
+            mockMvc.perform(
+                            get("/item")
+                                    .param("precoMin", "10")
+                                    .param("precoMax", "30")
+                                    .param("categoria", "Cerveja")
+                                    .param("quantidadeMin", "1")
+                                    .param("sort", "preco,desc")
+                                    .param("sort", "nome")
+                    )
+                    .andExpect(status().isOk());
+            // Assert
+            verify(itemService, times(1)).findAll(pageable, criterio);
+        }
+
+        @Test
+        void devePermitirBuscarTodosItem_atualizadosDesde() throws Exception {
+            // Arrange
+            var pageable = PageRequest.of(0, 10);
+            var criterio = new ItemFilterDTO(
+                    null, null, null, null, null, null, null, null, null, false, Instant.parse("2024-05-01T00:00:00Z")
+            );
+            when(itemService.findAll(any(), any(ItemFilterDTO.class)))
+                    .thenReturn(new PageImpl<>(List.of(ItemHelper.getItem(true)), pageable, 1));
+            // Act
+            mockMvc.perform(
+                            get("/item")
+                                    .param("updatedSince", "2024-05-01T00:00:00Z")
+                    )
+                    .andExpect(status().isOk());
+            // Assert
+            verify(itemService, times(1)).findAll(pageable, criterio);
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarTodosItem_ordenandoPorCampoNaoPermitido() throws Exception {
+            // Act
+            mockMvc.perform(
+                            get("/item")
+                                    .param("sort", "urlImagem,asc")
+                    )
+                    .andExpect(status().isBadRequest());
+            // Assert
+            verify(itemService, never()).findAll(any(), any(ItemFilterDTO.class));
+        }
+    }
+
+    @Nested
+    class BuscarItemPorCampos {
+        @Test
+        void devePermitirBuscarTodosItem_apenasCamposInformados() throws Exception {
+            // Arrange
+            var pageable = PageRequest.of(0, 10);
+            Map<String, Object> resumo = Map.of("id", UUID.randomUUID(), "nome", "Fullers ESB", "preco", 29.12);
+            when(itemService.findAll(any(), any(ItemFilterDTO.class), anyList()))
+                    .thenReturn(new PageImpl<>(List.of(resumo), pageable, 1));
+            // Act
+            mockMvc.perform(
+                            get("/item")
+                                    .param("fields", "nome,preco")
+                    )
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].nome").value("Fullers ESB"))
+                    .andExpect(jsonPath("$.content[0].descricao").doesNotExist());
+            // Assert
+            verify(itemService, times(1)).findAll(eq(pageable), any(ItemFilterDTO.class), eq(List.of("nome", "preco")));
+            verify(itemService, never()).findAll(any(), any(ItemFilterDTO.class));
+        }
+
+        @Test
+        void devePermitirBuscarTodosItem_apenasCamposInformados_semTotal() throws Exception {
+            // Arrange
+            var pageable = PageRequest.of(0, 10);
+            when(itemService.findSlice(any(), any(ItemFilterDTO.class), anyList()))
+                    .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+            // Act
+            mockMvc.perform(
+                            get("/item")
+                                    .param("fields", "nome")
+                                    .param("withTotal", "false")
+                    )
+                    .andExpect(status().isOk());
+            // Assert
+            verify(itemService, times(1)).findSlice(eq(pageable), any(ItemFilterDTO.class), eq(List.of("nome")));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarTodosItem_campoInvalido() throws Exception {
+            // Arrange
+            when(itemService.findAll(any(), any(ItemFilterDTO.class), anyList()))
+                    .thenThrow(new IllegalArgumentException("Campo inválido: senha"));
+            // Act
+            mockMvc.perform(
+                            get("/item")
+                                    .param("fields", "senha")
+                    )
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    class BuscarItemSemTotal {
+        @Test
+        void devePermitirBuscarTodosItem_semTotal() throws Exception {
+            // Arrange
+            var pageable = PageRequest.of(0, 10);
+            when(itemService.findSlice(any(), any(ItemFilterDTO.class)))
+                    .thenReturn(new SliceImpl<>(List.of(ItemHelper.getItem(true)), pageable, false));
+            // Act
+            mockMvc.perform(
+                            get("/item")
+                                    .param("withTotal", "false")
+                    )
+                    .andExpect(status().isOk());
+            // Assert
+            verify(itemService, times(1)).findSlice(pageable, new ItemFilterDTO(null, null, null, null, null, null, null, null, null, false));
+            verify(itemService, never()).findAll(any(), any(ItemFilterDTO.class));
         }
     }
 
@@ -187,6 +553,118 @@ class ItemControllerTest {
             // Assert
             verify(itemService, times(1)).update(any(UUID.class), any(Item.class));
         }
+
+        @Test
+        void devePermitirAlterarItem_ifMatch() throws Exception {
+            // Arrange
+            var item = ItemHelper.getItem(true);
+            when(itemService.update(any(UUID.class), any(Item.class))).thenAnswer(r -> {
+                Item itemParam = r.getArgument(1);
+                itemParam.setVersao(itemParam.getVersao() + 1);
+                return itemParam;
+            });
+            // Act
+            mockMvc.perform(put("/item/{id}", item.getId())
+                            .header(HttpHeaders.IF_MATCH, "\"3\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(asJsonString(item)))
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+            // Assert
+            verify(itemService, times(1)).update(eq(item.getId()), argThat(itemParam -> itemParam.getVersao() == 3L));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoAlterarItem_ifMatchDesatualizado() throws Exception {
+            // Arrange
+            var item = ItemHelper.getItem(true);
+            when(itemService.update(any(UUID.class), any(Item.class)))
+                    .thenThrow(new OptimisticLockingFailureException("O item foi alterado por outra requisição."));
+            // Act
+            mockMvc.perform(put("/item/{id}", item.getId())
+                            .header(HttpHeaders.IF_MATCH, "\"3\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(asJsonString(item)))
+                    .andExpect(status().isPreconditionFailed());
+            // Assert
+            verify(itemService, times(1)).update(any(UUID.class), any(Item.class));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoAlterarItem_versaoDesatualizada() throws Exception {
+            // Arrange
+            var item = ItemHelper.getItem(true);
+            item.setVersao(3L);
+            when(itemService.update(any(UUID.class), any(Item.class)))
+                    .thenThrow(new OptimisticLockingFailureException("O item foi alterado por outra requisição."));
+            // Act
+            mockMvc.perform(put("/item/{id}", item.getId())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(asJsonString(item)))
+                    .andExpect(status().isConflict());
+            // Assert
+            verify(itemService, times(1)).update(any(UUID.class), any(Item.class));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoAlterarItem_ifMatchInvalido() throws Exception {
+            // Arrange
+            var item = ItemHelper.getItem(true);
+            // Act
+            mockMvc.perform(put("/item/{id}", item.getId())
+                            .header(HttpHeaders.IF_MATCH, "versao-3")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(asJsonString(item)))
+                    .andExpect(status().isBadRequest());
+            // Assert
+            verify(itemService, never()).update(any(UUID.class), any(Item.class));
+        }
+    }
+
+    @Nested
+    class ReservarEstoque {
+        @Test
+        void devePermitirDecrementarEstoque() throws Exception {
+            // Arrange
+            var id = UUID.randomUUID();
+            when(itemService.decrementaEstoque(id, 2L)).thenReturn(new ItemStockDTO(id, 8L, ItemStockStatus.RESERVED));
+            // Act
+            mockMvc.perform(post("/item/{id}/stock/decrement", id)
+                            .param("quantidade", "2"))
+                    .andExpect(status().isOk());
+            // Assert
+            verify(itemService, times(1)).decrementaEstoque(id, 2L);
+        }
+
+        @Test
+        void devePermitirDecrementarEstoque_estoqueInsuficiente() throws Exception {
+            // Arrange
+            var id = UUID.randomUUID();
+            when(itemService.decrementaEstoque(id, 2L)).thenReturn(new ItemStockDTO(id, 1L, ItemStockStatus.INSUFFICIENT_STOCK));
+            // Act
+            mockMvc.perform(post("/item/{id}/stock/decrement", id)
+                            .param("quantidade", "2"))
+                    .andExpect(status().isConflict());
+            // Assert
+            verify(itemService, times(1)).decrementaEstoque(id, 2L);
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoDecrementarEstoqueEmLote_estoqueInsuficiente() throws Exception {
+            // Arrange
+            var id = UUID.randomUUID();
+            var items = List.of(new ItemStockRequestDTO(id, 5L));
+            when(itemService.decrementaEstoque(items)).thenThrow(new EstoqueInsuficienteException(
+                    new ItemStockBatchDTO(ItemStockStatus.INSUFFICIENT_STOCK, List.of(new ItemStockDTO(id, 1L, ItemStockStatus.INSUFFICIENT_STOCK)))
+            ));
+            // Act
+            mockMvc.perform(post("/item/stock/decrement")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(asJsonString(items)))
+                    .andExpect(status().isConflict());
+            // Assert
+            verify(itemService, times(1)).decrementaEstoque(items);
+        }
     }
 
     @Nested
@@ -219,4 +697,67 @@ class ItemControllerTest {
             verify(itemService, times(1)).delete(item.getId());
         }
     }
-}
\ No newline at end of file
+    @Nested
+    class BuscarAlteracoes {
+        @Test
+        void devePermitirBuscarAlteracoes() throws Exception {
+            // Arrange
+            var item = ItemHelper.getItem(true);
+            var alteracoes = new ItemChangeBatchDTO(
+                    List.of(new ItemChangeDTO(8L, item.getId(), ItemChangeOperation.UPDATED, Instant.now(), item)),
+                    8L,
+                    false
+            );
+            when(itemService.findChanges(7L, 50, Duration.ofSeconds(30))).thenReturn(CompletableFuture.completedFuture(alteracoes));
+            // Act
+            var resultado = mockMvc.perform(get("/item/changes")
+                            .param("since", "7")
+                            .param("limit", "50")
+                            .param("wait", "30"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(resultado))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.nextSince").value(8))
+                    .andExpect(jsonPath("$.hasNext").value(false))
+                    .andExpect(jsonPath("$.changes[0].operacao").value("UPDATED"))
+                    .andExpect(jsonPath("$.changes[0].item.nome").value(item.getNome()));
+            // Assert
+            verify(itemService, times(1)).findChanges(7L, 50, Duration.ofSeconds(30));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarAlteracoes_limiteInvalido() throws Exception {
+            // Arrange
+            when(itemService.findChanges(0L, 0, Duration.ZERO))
+                    .thenThrow(new IllegalArgumentException("O limite deve estar entre 1 e 1000."));
+            // Act
+            var resultado = mockMvc.perform(get("/item/changes")
+                            .param("limit", "0"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(resultado))
+                    .andExpect(status().isBadRequest());
+            // Assert
+            verify(itemService, times(1)).findChanges(0L, 0, Duration.ZERO);
+        }
+
+        @Test
+        void deveResponderAlteracoes_QuandoAlteracaoForConfirmadaDuranteAEspera() throws Exception {
+            // Arrange
+            var alteracoes = new CompletableFuture<ItemChangeBatchDTO>();
+            when(itemService.findChanges(0L, 100, Duration.ofSeconds(30))).thenReturn(alteracoes);
+            // Act
+            var resultado = mockMvc.perform(get("/item/changes")
+                            .param("wait", "30"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            alteracoes.complete(new ItemChangeBatchDTO(List.of(), 3L, false));
+            mockMvc.perform(asyncDispatch(resultado))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.nextSince").value(3));
+            // Assert
+            verify(itemService, times(1)).findChanges(0L, 100, Duration.ofSeconds(30));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.fiap.postech.goodbuy.item.controller;
+
+import br.com.fiap.postech.goodbuy.item.entity.Item;
+import br.com.fiap.postech.goodbuy.item.helper.ItemHelper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ItemETagTest {
+
+    @Test
+    void devePermitirCompararETag() {
+        // Arrange
+        var etag = ItemETag.of(3L);
+        // Act && Assert
+        assertThat(ItemETag.matches("\"3\"", etag)).isTrue();
+        assertThat(ItemETag.matches("W/\"3\"", etag)).isTrue();
+        assertThat(ItemETag.matches("\"1\", \"3\"", etag)).isTrue();
+        assertThat(ItemETag.matches("*", etag)).isTrue();
+        assertThat(ItemETag.matches("\"4\"", etag)).isFalse();
+        assertThat(ItemETag.matches(null, etag)).isFalse();
+    }
+
+    @Test
+    void devePermitirGerarETagDaListagem_alterandoQuandoVersaoMuda() {
+        // Arrange
+        var pageable = PageRequest.of(0, 10);
+        Item item = ItemHelper.getItem(true);
+        item.setVersao(1L);
+        var etag = ItemETag.of(new SliceImpl<>(List.of(item), pageable, false));
+        // Act
+        item.setVersao(2L);
+        var etagAlterada = ItemETag.of(new SliceImpl<>(List.of(item), pageable, false));
+        // Assert
+        assertThat(etag).startsWith("\"").endsWith("\"");
+        assertThat(etagAlterada).isNotEqualTo(etag);
+    }
+
+    @Test
+    void devePermitirLerVersaoDoIfMatch() {
+        // Act && Assert
+        assertThat(ItemETag.versao("\"7\"")).isEqualTo(7L);
+        assertThat(ItemETag.versao("*")).isNull();
+        assertThatThrownBy(() -> ItemETag.versao("W/\"7\""))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cabeçalho If-Match inválido.");
+    }
+}
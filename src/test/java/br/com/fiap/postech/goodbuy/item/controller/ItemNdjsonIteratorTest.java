@@ -0,0 +1,36 @@
+package br.com.fiap.postech.goodbuy.item.controller;
+
+import br.com.fiap.postech.goodbuy.item.entity.Item;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ItemNdjsonIteratorTest {
+
+    @Test
+    void deveContinuarAposLinhaInvalida() {
+        // Arrange
+        var ndjson = """
+                {"nome":"Fullers ESB"}
+                {"nome":
+
+                {"nome":"Fullers London Pride"}
+                """;
+        var items = new ItemNdjsonIterator(
+                new ObjectMapper().readerFor(Item.class),
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8))
+        );
+        // Act && Assert
+        assertThat(items.next().getNome()).isEqualTo("Fullers ESB");
+        assertThatThrownBy(items::next)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("JSON inválido: ");
+        assertThat(items.next().getNome()).isEqualTo("Fullers London Pride");
+        assertThat(items.hasNext()).isFalse();
+    }
+}
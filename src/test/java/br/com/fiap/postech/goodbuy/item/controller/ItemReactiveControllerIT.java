@@ -0,0 +1,83 @@
+package br.com.fiap.postech.goodbuy.item.controller;
+
+import br.com.fiap.postech.goodbuy.item.helper.UserHelper;
+import br.com.fiap.postech.goodbuy.security.UserDetailsServiceImpl;
+import br.com.fiap.postech.goodbuy.security.enums.UserRole;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class ItemReactiveControllerIT {
+
+    public static final String ITEM_REACTIVE = "/goodbuy/item/reactive";
+    @LocalServerPort
+    private int port;
+
+    @MockBean
+    private UserDetailsServiceImpl userDetailsService;
+
+    @BeforeEach
+    void setup() {
+        RestAssured.port = port;
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        var userDetails = UserHelper.getUserDetails(UserHelper.getUser(UserRole.USER));
+        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+    }
+
+    @Test
+    void devePermitirBuscarItemPorId() {
+        var user = UserHelper.getUser(UserRole.USER);
+        given()
+                .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                .when()
+                .get(ITEM_REACTIVE + "/{id}", "b04fa8fb-2de7-4589-9606-94e834acf310")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("nome", equalTo("Fullers London Pride"))
+                .body("urlImagem", equalTo("urldaImagemDaLD"));
+    }
+
+    @Test
+    void devePermitirListarItemsPaginados() {
+        var user = UserHelper.getUser(UserRole.USER);
+        given()
+                .queryParam("size", "2")
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                .when()
+                .get(ITEM_REACTIVE)
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("nome", contains("Fullers Black Cab", "Fullers ESB"));
+    }
+
+    @Test
+    void devePermitirTransmitirItemsEmNdjson() {
+        var user = UserHelper.getUser(UserRole.USER);
+        var corpo = given()
+                .accept(ItemController.APPLICATION_NDJSON_VALUE)
+                .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+                .when()
+                .get(ITEM_REACTIVE + "/stream")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract().asString();
+        assertThat(corpo.lines().filter(linha -> !linha.isBlank())).hasSize(4);
+    }
+}
@@ -0,0 +1,153 @@
+package br.com.fiap.postech.goodbuy.item.controller;
+
+import br.com.fiap.postech.goodbuy.item.entity.ItemReadModel;
+import br.com.fiap.postech.goodbuy.item.service.ItemReactiveService;
+import br.com.fiap.postech.goodbuy.item.service.ItemServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class ItemReactiveControllerTest {
+    private MockMvc mockMvc;
+    @Mock
+    private ItemReactiveService itemReactiveService;
+
+    private AutoCloseable mock;
+
+    @BeforeEach
+    void setUp() {
+        mock = MockitoAnnotations.openMocks(this);
+        ItemReactiveController itemReactiveController = new ItemReactiveController(itemReactiveService);
+        mockMvc = MockMvcBuilders.standaloneSetup(itemReactiveController).build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void devePermitirBuscarItemPorId() throws Exception {
+        // Arrange
+        var item = getItem();
+        when(itemReactiveService.findById(item.id())).thenReturn(Mono.just(item));
+        // Act
+        var resultado = mockMvc.perform(get("/item/reactive/{id}", item.id()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value(item.nome()));
+        // Assert
+        verify(itemReactiveService, times(1)).findById(item.id());
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoBuscarItemPorId_idNaoExiste() throws Exception {
+        // Arrange
+        var id = UUID.randomUUID();
+        when(itemReactiveService.findById(id))
+                .thenReturn(Mono.error(new IllegalArgumentException("Item não encontrado com o ID: " + id)));
+        // Act
+        var resultado = mockMvc.perform(get("/item/reactive/{id}", id))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void devePermitirTransmitirItemsEmNdjson() throws Exception {
+        // Arrange
+        when(itemReactiveService.stream("Cerveja")).thenReturn(Flux.just(getItem(), getItem()));
+        // Act
+        var resultado = mockMvc.perform(get("/item/reactive/stream")
+                        .param("categoria", "Cerveja")
+                        .accept(ItemController.APPLICATION_NDJSON_VALUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ItemController.APPLICATION_NDJSON_VALUE));
+        // Assert
+        verify(itemReactiveService, times(1)).stream("Cerveja");
+    }
+
+    @Test
+    void devePermitirListarItems() throws Exception {
+        // Arrange
+        var pageable = PageRequest.of(1, 5, Sort.by("nome", "id"));
+        when(itemReactiveService.findAll(pageable, null)).thenReturn(Flux.just(getItem()));
+        // Act
+        var resultado = mockMvc.perform(get("/item/reactive")
+                        .param("page", "1")
+                        .param("size", "5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].nome").value("Fullers ESB"));
+        // Assert
+        verify(itemReactiveService, times(1)).findAll(pageable, null);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoBuscarItemsPorIds_semIds() throws Exception {
+        // Arrange
+        when(itemReactiveService.findAllById(anyList()))
+                .thenThrow(new IllegalArgumentException("Ao menos um id deve ser informado."));
+        // Act
+        mockMvc.perform(get("/item/reactive/batch")
+                        .param("ids", UUID.randomUUID().toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void devePermitirBuscarItemsPorIds_noCorpoComLimiteMaximo() throws Exception {
+        // Arrange
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < ItemServiceImpl.MAX_BATCH_SIZE; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        when(itemReactiveService.findAllById(anyList())).thenReturn(Flux.just(getItem()));
+        // Act
+        var resultado = mockMvc.perform(post("/item/reactive/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(ids)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk());
+        // Assert
+        verify(itemReactiveService, times(1)).findAllById(ids);
+    }
+
+    private static ItemReadModel getItem() {
+        return new ItemReadModel(
+                UUID.randomUUID(), "Fullers ESB", 29.12, "Extra Special Bitter", "Cerveja", "urldaImagemDaESB", 4312L, 0L,
+                Instant.parse("2024-05-01T10:15:30Z"), Instant.parse("2024-05-01T10:15:30Z")
+        );
+    }
+}
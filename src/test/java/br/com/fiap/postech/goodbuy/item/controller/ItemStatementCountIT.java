@@ -0,0 +1,164 @@
+package br.com.fiap.postech.goodbuy.item.controller;
+
+import br.com.fiap.postech.goodbuy.item.entity.Item;
+import br.com.fiap.postech.goodbuy.item.helper.ItemHelper;
+import br.com.fiap.postech.goodbuy.item.helper.UserHelper;
+import br.com.fiap.postech.goodbuy.item.service.ItemChangeSequencer;
+import br.com.fiap.postech.goodbuy.security.UserDetailsServiceImpl;
+import br.com.fiap.postech.goodbuy.security.enums.UserRole;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static br.com.fiap.postech.goodbuy.item.helper.StatementCountHelper.assertMaxStatements;
+import static br.com.fiap.postech.goodbuy.item.helper.StatementCountHelper.contaStatements;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+public class ItemStatementCountIT {
+
+    public static final String ITEM = "/goodbuy/item";
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ItemChangeSequencer itemChangeSequencer;
+
+    @MockBean
+    private UserDetailsServiceImpl userDetailsService;
+
+    private String token;
+
+    @BeforeEach
+    void setup() {
+        RestAssured.port = port;
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        var user = UserHelper.getUser(UserRole.ADMIN);
+        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(UserHelper.getUserDetails(user));
+        token = UserHelper.getToken(user);
+    }
+
+    @Test
+    void deveBuscarItemPorId_ComNoMaximoUmStatement() {
+        assertMaxStatements(meterRegistry, "GET", "/item/{id}", 1, () ->
+            given()
+                .header(HttpHeaders.AUTHORIZATION, token)
+            .when()
+                .get(ITEM + "/{id}", "b04fa8fb-2de7-4589-9606-94e834acf310")
+            .then()
+                .statusCode(HttpStatus.OK.value())
+        );
+    }
+
+    @Test
+    void deveListarItems_ComNoMaximoDoisStatements() {
+        assertMaxStatements(meterRegistry, "GET", "/item", 2, () ->
+            given()
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .queryParam("categoria", "carros")
+            .when()
+                .get(ITEM)
+            .then()
+                .statusCode(HttpStatus.OK.value())
+        );
+    }
+
+    @Test
+    void deveCadastrarItem_ComNoMaximoQuatroStatements() {
+        assertMaxStatements(meterRegistry, "POST", "/item", 4, () -> cadastra());
+    }
+
+    @Test
+    void deveAlterarItem_ComNoMaximoQuatroStatements() {
+        var id = cadastra();
+        var alteracao = new Item();
+        alteracao.setPreco(10D);
+        assertMaxStatements(meterRegistry, "PUT", "/item/{id}", 4, () ->
+            given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .body(alteracao)
+            .when()
+                .put(ITEM + "/{id}", id)
+            .then()
+                .statusCode(HttpStatus.ACCEPTED.value())
+        );
+    }
+
+    @Test
+    void deveRemoverItem_ComNoMaximoQuatroStatements() {
+        var id = cadastra();
+        assertMaxStatements(meterRegistry, "DELETE", "/item/{id}", 4, () ->
+            given()
+                .header(HttpHeaders.AUTHORIZATION, token)
+            .when()
+                .delete(ITEM + "/{id}", id)
+            .then()
+                .statusCode(HttpStatus.NO_CONTENT.value())
+        );
+    }
+
+    @Test
+    void deveExportarItems_ContandoStatementsDaThreadAssincrona() {
+        long statements = contaStatements(meterRegistry, "GET", "/item/export", () ->
+            given()
+                .header(HttpHeaders.AUTHORIZATION, token)
+            .when()
+                .get(ITEM + "/export")
+            .then()
+                .statusCode(HttpStatus.OK.value())
+        );
+        assertThat(statements).isBetween(1L, 2L);
+    }
+
+    @Test
+    void deveAguardarAlteracoes_ContandoStatementsDaLeituraAssincrona() {
+        long since = itemChangeSequencer.sequencia();
+        long statements = contaStatements(meterRegistry, "GET", "/item/changes", () ->
+            given()
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .queryParam("since", since)
+                .queryParam("wait", 1)
+            .when()
+                .get(ITEM + "/changes")
+            .then()
+                .statusCode(HttpStatus.OK.value())
+        );
+        assertThat(statements).isBetween(2L, 3L);
+    }
+
+    private String cadastra() {
+        var item = ItemHelper.getItem(false);
+        item.setNome("Item " + UUID.randomUUID());
+        return given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .body(item)
+            .when()
+                .post(ITEM)
+            .then()
+                .statusCode(HttpStatus.CREATED.value())
+                .extract()
+                .path("id");
+    }
+}
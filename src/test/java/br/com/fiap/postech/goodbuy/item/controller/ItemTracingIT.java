@@ -0,0 +1,111 @@
+package br.com.fiap.postech.goodbuy.item.controller;
+
+import br.com.fiap.postech.goodbuy.item.helper.UserHelper;
+import br.com.fiap.postech.goodbuy.security.UserDetailsServiceImpl;
+import br.com.fiap.postech.goodbuy.security.enums.UserRole;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "management.tracing.sampling.probability=1.0"
+)
+@AutoConfigureTestDatabase
+@AutoConfigureObservability(metrics = false)
+@ActiveProfiles("test")
+@Import(ItemTracingIT.TracingTestConfiguration.class)
+public class ItemTracingIT {
+
+    public static final String ITEM = "/goodbuy/item";
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @MockBean
+    private UserDetailsServiceImpl userDetailsService;
+
+    @BeforeEach
+    void setup() {
+        RestAssured.port = port;
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        spanExporter.reset();
+    }
+
+    @Test
+    void deveContinuarTraceRecebidoComSpansDoEndpointServicoEJdbc() throws InterruptedException {
+        var user = UserHelper.getUser(UserRole.USER);
+        var userDetails = UserHelper.getUserDetails(user);
+        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+
+        given()
+            .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+            .header("traceparent", "00-" + TRACE_ID + "-00f067aa0ba902b7-01")
+        .when()
+            .get(ITEM + "/{id}", UUID.randomUUID())
+        .then()
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+
+        var spans = aguardaSpanDoServidor();
+        assertThat(spans).allSatisfy(span -> assertThat(span.getTraceId()).isEqualTo(TRACE_ID));
+        assertThat(spans).extracting(SpanData::getName).contains("ItemService#findById", "query");
+        assertThat(spans).anySatisfy(span -> {
+            assertThat(span.getKind()).isEqualTo(SpanKind.SERVER);
+            assertThat(span.getName()).contains("/item/{id}");
+        });
+    }
+
+    private List<SpanData> aguardaSpanDoServidor() throws InterruptedException {
+        long prazo = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < prazo) {
+            tracerProvider.forceFlush().join(1, TimeUnit.SECONDS);
+            List<SpanData> spans = spanExporter.getFinishedSpanItems();
+            if (spans.stream().anyMatch(span -> span.getKind() == SpanKind.SERVER)) {
+                return spans;
+            }
+            Thread.sleep(50);
+        }
+        return spanExporter.getFinishedSpanItems();
+    }
+
+    @TestConfiguration
+    static class TracingTestConfiguration {
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+}
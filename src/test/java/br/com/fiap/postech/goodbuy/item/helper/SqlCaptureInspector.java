@@ -0,0 +1,24 @@
+package br.com.fiap.postech.goodbuy.item.helper;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class SqlCaptureInspector implements StatementInspector {
+    private static final List<String> CAPTURADOS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        CAPTURADOS.add(sql);
+        return sql;
+    }
+
+    public static void limpa() {
+        CAPTURADOS.clear();
+    }
+
+    public static List<String> capturados() {
+        return List.copyOf(CAPTURADOS);
+    }
+}
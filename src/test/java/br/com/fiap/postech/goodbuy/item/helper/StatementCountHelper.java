@@ -0,0 +1,65 @@
+package br.com.fiap.postech.goodbuy.item.helper;
+
+import br.com.fiap.postech.goodbuy.item.config.StatementStatisticsFilter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class StatementCountHelper {
+    private static final Duration ESPERA = Duration.ofSeconds(5);
+
+    public static void assertMaxStatements(
+            MeterRegistry meterRegistry,
+            String method,
+            String uri,
+            long maximo,
+            Runnable requisicao
+    ) {
+        long statements = contaStatements(meterRegistry, method, uri, requisicao);
+        assertThat(statements)
+                .as("statements executados por %s %s", method, uri)
+                .isLessThanOrEqualTo(maximo);
+    }
+
+    public static long contaStatements(MeterRegistry meterRegistry, String method, String uri, Runnable requisicao) {
+        long countAntes = count(meterRegistry, method, uri);
+        double totalAntes = total(meterRegistry, method, uri);
+        requisicao.run();
+        long prazo = System.nanoTime() + ESPERA.toNanos();
+        while (count(meterRegistry, method, uri) == countAntes) {
+            if (System.nanoTime() > prazo) {
+                fail("Nenhuma requisição %s %s registrada em %s.", method, uri, StatementStatisticsFilter.STATEMENTS);
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(exception);
+            }
+        }
+        assertThat(count(meterRegistry, method, uri) - countAntes)
+                .as("requisições %s %s registradas", method, uri)
+                .isEqualTo(1);
+        return Math.round(total(meterRegistry, method, uri) - totalAntes);
+    }
+
+    private static long count(MeterRegistry meterRegistry, String method, String uri) {
+        DistributionSummary summary = summary(meterRegistry, method, uri);
+        return summary != null ? summary.count() : 0;
+    }
+
+    private static double total(MeterRegistry meterRegistry, String method, String uri) {
+        DistributionSummary summary = summary(meterRegistry, method, uri);
+        return summary != null ? summary.totalAmount() : 0;
+    }
+
+    private static DistributionSummary summary(MeterRegistry meterRegistry, String method, String uri) {
+        return meterRegistry.find(StatementStatisticsFilter.STATEMENTS)
+                .tags("method", method, "uri", uri)
+                .summary();
+    }
+}
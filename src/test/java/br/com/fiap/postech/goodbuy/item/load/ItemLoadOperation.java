@@ -0,0 +1,13 @@
+package br.com.fiap.postech.goodbuy.item.load;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+
+public record ItemLoadOperation(String nome, int peso, Chamada chamada) {
+
+    @FunctionalInterface
+    public interface Chamada {
+        HttpResponse<?> executa(HttpClient httpClient) throws IOException, InterruptedException;
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.fiap.postech.goodbuy.item.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+
+public record ItemLoadResult(
+        String cenario,
+        int requisicoes,
+        long erros,
+        Duration duracao,
+        Duration p50,
+        Duration p95,
+        Duration p99
+) {
+    public static ItemLoadResult of(String cenario, long[] latencias, long erros, Duration duracao) {
+        long[] ordenadas = latencias.clone();
+        Arrays.sort(ordenadas);
+        return new ItemLoadResult(
+                cenario,
+                ordenadas.length,
+                erros,
+                duracao,
+                percentil(ordenadas, 50),
+                percentil(ordenadas, 95),
+                percentil(ordenadas, 99)
+        );
+    }
+
+    public double throughput() {
+        return requisicoes / Math.max(duracao.toNanos() / 1_000_000_000D, 1E-9);
+    }
+
+    public double taxaDeErro() {
+        return requisicoes == 0 ? 0 : (double) erros / requisicoes;
+    }
+
+    public String resumo() {
+        return String.format(
+                Locale.ROOT,
+                "cenario=%s requisicoes=%d erros=%d taxaDeErro=%.4f duracao=%dms throughput=%.1freq/s p50=%.2fms p95=%.2fms p99=%.2fms",
+                cenario, requisicoes, erros, taxaDeErro(), duracao.toMillis(), throughput(),
+                p50.toNanos() / 1E6, p95.toNanos() / 1E6, p99.toNanos() / 1E6
+        );
+    }
+
+    private static Duration percentil(long[] latenciasOrdenadas, double percentil) {
+        if (latenciasOrdenadas.length == 0) {
+            return Duration.ZERO;
+        }
+        int indice = (int) Math.ceil(percentil / 100 * latenciasOrdenadas.length) - 1;
+        return Duration.ofNanos(latenciasOrdenadas[Math.max(indice, 0)]);
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.fiap.postech.goodbuy.item.load;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ItemLoadRunner {
+    private final int concorrencia;
+    private final int requisicoes;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public ItemLoadRunner(int concorrencia, int requisicoes) {
+        this.concorrencia = concorrencia;
+        this.requisicoes = requisicoes;
+    }
+
+    public ItemLoadResult run(String cenario, List<HttpRequest> requests) throws InterruptedException {
+        long[] latencias = new long[requisicoes];
+        AtomicLong erros = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(concorrencia);
+        long inicio = System.nanoTime();
+        for (int i = 0; i < requisicoes; i++) {
+            int indice = i;
+            executor.execute(() -> {
+                HttpRequest request = requests.get(indice % requests.size());
+                long envio = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() >= 400) {
+                        erros.incrementAndGet();
+                    }
+                } catch (IOException exception) {
+                    erros.incrementAndGet();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    erros.incrementAndGet();
+                }
+                latencias[indice] = System.nanoTime() - envio;
+            });
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.MINUTES)) {
+            executor.shutdownNow();
+        }
+        Duration duracao = Duration.ofNanos(System.nanoTime() - inicio);
+        return ItemLoadResult.of(cenario, latencias, erros.get(), duracao);
+    }
+}
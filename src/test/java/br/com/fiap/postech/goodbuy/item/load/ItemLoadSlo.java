@@ -0,0 +1,47 @@
+package br.com.fiap.postech.goodbuy.item.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public record ItemLoadSlo(Duration p50, Duration p95, Duration p99, double taxaDeErroMaxima, double throughputMinimo) {
+
+    public static ItemLoadSlo fromSystemProperties() {
+        return new ItemLoadSlo(
+                Duration.ofMillis(Long.getLong("item.load-test.slo.p50-ms", 50)),
+                Duration.ofMillis(Long.getLong("item.load-test.slo.p95-ms", 200)),
+                Duration.ofMillis(Long.getLong("item.load-test.slo.p99-ms", 500)),
+                Double.parseDouble(System.getProperty("item.load-test.slo.error-rate", "0.01")),
+                Double.parseDouble(System.getProperty("item.load-test.slo.min-throughput", "0"))
+        );
+    }
+
+    public List<String> violacoes(ItemLoadResult resultado) {
+        List<String> violacoes = new ArrayList<>();
+        verificaLatencia(violacoes, "p50", resultado.p50(), p50);
+        verificaLatencia(violacoes, "p95", resultado.p95(), p95);
+        verificaLatencia(violacoes, "p99", resultado.p99(), p99);
+        if (resultado.taxaDeErro() > taxaDeErroMaxima) {
+            violacoes.add(String.format(Locale.ROOT, "taxaDeErro=%.4f acima de %.4f", resultado.taxaDeErro(), taxaDeErroMaxima));
+        }
+        if (resultado.throughput() < throughputMinimo) {
+            violacoes.add(String.format(Locale.ROOT, "throughput=%.1freq/s abaixo de %.1freq/s", resultado.throughput(), throughputMinimo));
+        }
+        return violacoes;
+    }
+
+    public String resumo() {
+        return String.format(
+                Locale.ROOT,
+                "slo p50<=%dms p95<=%dms p99<=%dms taxaDeErro<=%.4f throughput>=%.1freq/s",
+                p50.toMillis(), p95.toMillis(), p99.toMillis(), taxaDeErroMaxima, throughputMinimo
+        );
+    }
+
+    private static void verificaLatencia(List<String> violacoes, String percentil, Duration medida, Duration limite) {
+        if (medida.compareTo(limite) > 0) {
+            violacoes.add(String.format(Locale.ROOT, "%s=%.2fms acima de %dms", percentil, medida.toNanos() / 1E6, limite.toMillis()));
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package br.com.fiap.postech.goodbuy.item.load;
+
+import br.com.fiap.postech.goodbuy.item.helper.UserHelper;
+import br.com.fiap.postech.goodbuy.security.UserDetailsServiceImpl;
+import br.com.fiap.postech.goodbuy.security.enums.UserRole;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+class ItemMixedLoadIT {
+    private static final double TAXA = Double.parseDouble(System.getProperty("item.load-test.rate", "200"));
+    private static final Duration DURACAO = Duration.ofSeconds(Long.getLong("item.load-test.duration", 30));
+    private static final int ITEMS_INICIAIS = 200;
+    private static final String ID_EXISTENTE = "b04fa8fb-2de7-4589-9606-94e834acf310";
+    private static final Path RELATORIOS = Path.of("target", "load-test");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Queue<String> ids = new ConcurrentLinkedQueue<>();
+    private String token;
+    private String item;
+
+    @LocalServerPort
+    private int port;
+
+    @MockBean
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Test
+    @EnabledIfSystemProperty(named = "item.load-test", matches = "true")
+    void deveAtenderCargaMistaDentroDoSlo() throws Exception {
+        var user = UserHelper.getUser(UserRole.ADMIN);
+        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(UserHelper.getUserDetails(user));
+        token = UserHelper.getToken(user);
+        item = "http://localhost:" + port + "/goodbuy/item";
+        var httpClient = HttpClient.newHttpClient();
+        for (int i = 0; i < ITEMS_INICIAIS; i++) {
+            assertThat(cadastra(httpClient).statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        }
+        var operacoes = List.of(
+                new ItemLoadOperation("findById", 40, client -> client.send(
+                        get(item + "/" + ID_EXISTENTE), HttpResponse.BodyHandlers.discarding()
+                )),
+                new ItemLoadOperation("findAll", 30, client -> client.send(
+                        get(item + "?categoria=Carga&precoMin=10&precoMax=30&size=20&withTotal=false"),
+                        HttpResponse.BodyHandlers.discarding()
+                )),
+                new ItemLoadOperation("save", 15, this::cadastra),
+                new ItemLoadOperation("update", 10, this::altera),
+                new ItemLoadOperation("delete", 5, this::remove)
+        );
+
+        var resultados = new ItemRateLoadRunner(TAXA, DURACAO).run("mixed", operacoes);
+
+        var slo = ItemLoadSlo.fromSystemProperties();
+        var violacoes = slo.violacoes(resultados.get(0));
+        var relatorio = new StringBuilder()
+                .append(String.format(Locale.ROOT, "taxa=%.1freq/s duracao=%ds%n", TAXA, DURACAO.toSeconds()));
+        resultados.forEach(resultado -> relatorio.append(resultado.resumo()).append(System.lineSeparator()));
+        relatorio.append(slo.resumo()).append(System.lineSeparator())
+                .append(violacoes.isEmpty() ? "resultado=APROVADO" : "resultado=REPROVADO " + violacoes)
+                .append(System.lineSeparator());
+        Files.createDirectories(RELATORIOS);
+        Files.writeString(RELATORIOS.resolve("mixed.txt"), relatorio);
+        assertThat(violacoes).isEmpty();
+    }
+
+    private HttpResponse<String> cadastra(HttpClient httpClient) throws IOException, InterruptedException {
+        var corpo = objectMapper.writeValueAsString(Map.of(
+                "nome", "Carga " + UUID.randomUUID(),
+                "preco", 10 + ThreadLocalRandom.current().nextInt(40),
+                "descricao", "Item criado pelo teste de carga",
+                "categoria", "Carga",
+                "urlImagem", "urlDaImagemDeCarga",
+                "quantidade", 100
+        ));
+        var response = httpClient.send(
+                request(item).header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+        if (response.statusCode() == HttpStatus.CREATED.value()) {
+            ids.offer(objectMapper.readTree(response.body()).get("id").asText());
+        }
+        return response;
+    }
+
+    private HttpResponse<?> altera(HttpClient httpClient) throws IOException, InterruptedException {
+        var id = ids.poll();
+        if (id == null) {
+            return cadastra(httpClient);
+        }
+        try {
+            var corpo = objectMapper.writeValueAsString(Map.of("preco", 10 + ThreadLocalRandom.current().nextInt(40)));
+            return httpClient.send(
+                    request(item + "/" + id).header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .PUT(HttpRequest.BodyPublishers.ofString(corpo))
+                            .build(),
+                    HttpResponse.BodyHandlers.discarding()
+            );
+        } finally {
+            ids.offer(id);
+        }
+    }
+
+    private HttpResponse<?> remove(HttpClient httpClient) throws IOException, InterruptedException {
+        var id = ids.poll();
+        if (id == null) {
+            return cadastra(httpClient);
+        }
+        return httpClient.send(request(item + "/" + id).DELETE().build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private HttpRequest get(String uri) {
+        return request(uri).GET().build();
+    }
+
+    private HttpRequest.Builder request(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header(HttpHeaders.AUTHORIZATION, token);
+    }
+}
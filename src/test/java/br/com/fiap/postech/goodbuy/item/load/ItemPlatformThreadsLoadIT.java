@@ -0,0 +1,12 @@
+package br.com.fiap.postech.goodbuy.item.load;
+
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+class ItemPlatformThreadsLoadIT extends ItemThreadingLoadIT {
+
+    @Override
+    String cenario() {
+        return "platform-threads";
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.fiap.postech.goodbuy.item.load;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class ItemRateLoadRunner {
+    private final double taxa;
+    private final Duration duracao;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public ItemRateLoadRunner(double taxa, Duration duracao) {
+        if (taxa <= 0) {
+            throw new IllegalArgumentException("A taxa de requisições deve ser maior que zero.");
+        }
+        this.taxa = taxa;
+        this.duracao = duracao;
+    }
+
+    public List<ItemLoadResult> run(String cenario, List<ItemLoadOperation> operacoes) throws InterruptedException {
+        List<ItemLoadOperation> ciclo = new ArrayList<>();
+        for (ItemLoadOperation operacao : operacoes) {
+            for (int i = 0; i < operacao.peso(); i++) {
+                ciclo.add(operacao);
+            }
+        }
+        int total = (int) Math.max(1, Math.round(taxa * duracao.toNanos() / 1E9));
+        long intervalo = Math.round(1E9 / taxa);
+        long[] latencias = new long[total];
+        boolean[] falhas = new boolean[total];
+        ItemLoadOperation[] executadas = new ItemLoadOperation[total];
+        long inicio = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < total; i++) {
+                long agendado = inicio + i * intervalo;
+                long espera = agendado - System.nanoTime();
+                if (espera > 0) {
+                    TimeUnit.NANOSECONDS.sleep(espera);
+                }
+                int indice = i;
+                ItemLoadOperation operacao = ciclo.get(i % ciclo.size());
+                executadas[i] = operacao;
+                executor.execute(() -> {
+                    try {
+                        HttpResponse<?> response = operacao.chamada().executa(httpClient);
+                        falhas[indice] = response.statusCode() >= 400;
+                    } catch (IOException | RuntimeException exception) {
+                        falhas[indice] = true;
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        falhas[indice] = true;
+                    }
+                    latencias[indice] = System.nanoTime() - agendado;
+                });
+            }
+        }
+        Duration duracaoReal = Duration.ofNanos(System.nanoTime() - inicio);
+        List<ItemLoadResult> resultados = new ArrayList<>();
+        resultados.add(resultado(cenario, null, executadas, latencias, falhas, duracaoReal));
+        for (ItemLoadOperation operacao : operacoes) {
+            resultados.add(resultado(cenario + "/" + operacao.nome(), operacao, executadas, latencias, falhas, duracaoReal));
+        }
+        return resultados;
+    }
+
+    private static ItemLoadResult resultado(
+            String cenario,
+            ItemLoadOperation operacao,
+            ItemLoadOperation[] executadas,
+            long[] latencias,
+            boolean[] falhas,
+            Duration duracao
+    ) {
+        long[] selecionadas = new long[latencias.length];
+        int quantidade = 0;
+        long erros = 0;
+        for (int i = 0; i < latencias.length; i++) {
+            if (operacao == null || executadas[i] == operacao) {
+                selecionadas[quantidade++] = latencias[i];
+                if (falhas[i]) {
+                    erros++;
+                }
+            }
+        }
+        return ItemLoadResult.of(cenario, Arrays.copyOf(selecionadas, quantidade), erros, duracao);
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.fiap.postech.goodbuy.item.load;
+
+import br.com.fiap.postech.goodbuy.item.helper.UserHelper;
+import br.com.fiap.postech.goodbuy.security.UserDetailsServiceImpl;
+import br.com.fiap.postech.goodbuy.security.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureTestDatabase
+abstract class ItemThreadingLoadIT {
+    private static final int REQUISICOES = Integer.getInteger("item.load-test.requests", 5000);
+    private static final int CONCORRENCIA = Integer.getInteger("item.load-test.concurrency", 400);
+    private static final Path RELATORIOS = Path.of("target", "load-test");
+
+    @LocalServerPort
+    private int port;
+
+    @MockBean
+    private UserDetailsServiceImpl userDetailsService;
+
+    abstract String cenario();
+
+    @Test
+    @EnabledIfSystemProperty(named = "item.load-test", matches = "true")
+    void deveAtenderCargaConcorrente() throws Exception {
+        var user = UserHelper.getUser(UserRole.USER);
+        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(UserHelper.getUserDetails(user));
+        var token = UserHelper.getToken(user);
+        var item = "http://localhost:" + port + "/goodbuy/item";
+        var requests = List.of(
+                get(item + "?size=10&withTotal=false", token),
+                get(item + "/b04fa8fb-2de7-4589-9606-94e834acf310", token),
+                get(item + "?categoria=Cerveja&fields=nome,preco", token)
+        );
+
+        var resultado = new ItemLoadRunner(CONCORRENCIA, REQUISICOES).run(cenario(), requests);
+
+        Files.createDirectories(RELATORIOS);
+        Files.writeString(RELATORIOS.resolve(cenario() + ".txt"), resultado.resumo() + System.lineSeparator());
+        assertThat(resultado.erros()).isZero();
+    }
+
+    private static HttpRequest get(String uri, String token) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .GET()
+                .build();
+    }
+}
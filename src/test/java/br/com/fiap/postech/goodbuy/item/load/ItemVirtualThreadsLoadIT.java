@@ -0,0 +1,30 @@
+package br.com.fiap.postech.goodbuy.item.load;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles({"test", "virtual-threads"})
+class ItemVirtualThreadsLoadIT extends ItemThreadingLoadIT {
+
+    @Autowired
+    private ServletWebServerApplicationContext applicationContext;
+
+    @Override
+    String cenario() {
+        return "virtual-threads";
+    }
+
+    @Test
+    void deveAtenderRequisicoesEmVirtualThreads() {
+        var webServer = (TomcatWebServer) applicationContext.getWebServer();
+        Connector connector = webServer.getTomcat().getConnector();
+        assertThat(connector.getProtocolHandler().getExecutor()).isInstanceOf(VirtualThreadExecutor.class);
+    }
+}
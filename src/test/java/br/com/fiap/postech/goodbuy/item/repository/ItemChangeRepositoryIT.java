@@ -0,0 +1,86 @@
+package br.com.fiap.postech.goodbuy.item.repository;
+
+import br.com.fiap.postech.goodbuy.item.entity.ItemChange;
+import br.com.fiap.postech.goodbuy.item.entity.ItemChangeOperation;
+import br.com.fiap.postech.goodbuy.item.service.ItemChangeSequencer;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+@Transactional
+public class ItemChangeRepositoryIT {
+    private final ItemChangeRepository itemChangeRepository;
+    private final ItemChangeSequencer itemChangeSequencer;
+
+    @Autowired
+    public ItemChangeRepositoryIT(ItemChangeRepository itemChangeRepository, ItemChangeSequencer itemChangeSequencer) {
+        this.itemChangeRepository = itemChangeRepository;
+        this.itemChangeSequencer = itemChangeSequencer;
+    }
+
+    @Test
+    void devePermitirBuscarAlteracoesAPartirDeUmaPosicao() {
+        // Arrange
+        var primeira = itemChangeRepository.save(new ItemChange(UUID.randomUUID(), ItemChangeOperation.CREATED));
+        var segunda = itemChangeRepository.save(new ItemChange(UUID.randomUUID(), ItemChangeOperation.CREATED));
+        var terceira = itemChangeRepository.save(new ItemChange(UUID.randomUUID(), ItemChangeOperation.CREATED));
+        itemChangeRepository.flush();
+        itemChangeSequencer.sequencia();
+        // Act
+        var alteracoes = itemChangeRepository.findByPosicaoGreaterThanOrderByPosicao(primeira.getPosicao(), Limit.of(2));
+        // Assert
+        assertThat(alteracoes).extracting(ItemChange::getSequencia)
+                .containsExactly(segunda.getSequencia(), terceira.getSequencia());
+        assertThat(alteracoes).extracting(ItemChange::getPosicao)
+                .containsExactly(primeira.getPosicao() + 1, primeira.getPosicao() + 2);
+    }
+
+    @Test
+    void devePermitirAtribuirPosicoesConsecutivas_SomenteUmaVez() {
+        // Arrange
+        itemChangeRepository.save(new ItemChange(UUID.randomUUID(), ItemChangeOperation.CREATED));
+        itemChangeRepository.save(new ItemChange(UUID.randomUUID(), ItemChangeOperation.UPDATED));
+        itemChangeRepository.flush();
+        // Act
+        long ultima = itemChangeSequencer.sequencia();
+        long repetida = itemChangeSequencer.sequencia();
+        // Assert
+        assertThat(repetida).isEqualTo(ultima);
+        assertThat(itemChangeRepository.findByPosicaoIsNullOrderBySequencia(Limit.of(1))).isEmpty();
+        assertThat(itemChangeRepository.travaUltimaPosicao()).isEqualTo(ultima);
+    }
+
+    @Test
+    void devePermitirCompactarAlteracoesSubstituidas() {
+        // Arrange
+        var id = UUID.randomUUID();
+        var outroId = UUID.randomUUID();
+        itemChangeRepository.save(new ItemChange(id, ItemChangeOperation.CREATED));
+        itemChangeRepository.save(new ItemChange(id, ItemChangeOperation.UPDATED));
+        var ultima = itemChangeRepository.save(new ItemChange(id, ItemChangeOperation.DELETED));
+        var outra = itemChangeRepository.save(new ItemChange(outroId, ItemChangeOperation.CREATED));
+        itemChangeRepository.flush();
+        itemChangeSequencer.sequencia();
+        // Act
+        var removidas = itemChangeRepository.compacta();
+        // Assert
+        assertThat(removidas).isGreaterThanOrEqualTo(2);
+        var restantes = itemChangeRepository.findAll().stream()
+                .filter(alteracao -> List.of(id, outroId).contains(alteracao.getItemId()))
+                .map(ItemChange::getSequencia)
+                .toList();
+        assertThat(restantes).containsExactlyInAnyOrder(ultima.getSequencia(), outra.getSequencia());
+    }
+}
@@ -1,28 +1,43 @@
 package br.com.fiap.postech.goodbuy.item.repository;
 
+import br.com.fiap.postech.goodbuy.item.dto.ItemFilterDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemMatchMode;
 import br.com.fiap.postech.goodbuy.item.entity.Item;
+import br.com.fiap.postech.goodbuy.item.entity.ItemReadModel;
 import br.com.fiap.postech.goodbuy.item.helper.ItemHelper;
+import br.com.fiap.postech.goodbuy.item.helper.SqlCaptureInspector;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "br.com.fiap.postech.goodbuy.item.helper.SqlCaptureInspector")
 @AutoConfigureTestDatabase
 @ActiveProfiles("test")
 @Transactional
 public class ItemRepositoryIT {
     private final ItemRepository itemRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Autowired
-    public ItemRepositoryIT(ItemRepository itemRepository) {
+    public ItemRepositoryIT(ItemRepository itemRepository, JdbcTemplate jdbcTemplate) {
         this.itemRepository = itemRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Test
@@ -42,6 +57,7 @@ public class ItemRepositoryIT {
         assertThat(itemCadastrado.getId()).isEqualTo(item.getId());
         assertThat(itemCadastrado.getNome()).isEqualTo(item.getNome());
     }
+
     @Test
     void devePermitirBuscarItem() {
         // Arrange
@@ -59,6 +75,7 @@ public class ItemRepositoryIT {
                 }
         );
     }
+
     @Test
     void devePermitirRemoverItem() {
         // Arrange
@@ -70,6 +87,7 @@ public class ItemRepositoryIT {
         var itemOpcional = itemRepository.findById(id);
         assertThat(itemOpcional).isEmpty();
     }
+
     @Test
     void devePermitirListarItems() {
         // Arrange
@@ -78,4 +96,208 @@ public class ItemRepositoryIT {
         // Assert
         assertThat(itemsListados).hasSize(4);
     }
+
+    @Test
+    void deveUsarIndice_QuandoBuscarItemPorNome() {
+        // Act
+        var plano = explicaConsulta(() -> itemRepository.findByNome("Fullers ESB"));
+        // Assert
+        assertThat(plano).containsIgnoringCase("ux_item_nome");
+    }
+
+    @Test
+    void deveUsarIndice_QuandoListarItemsPorCategoriaEFaixaDePreco() {
+        // Arrange
+        var filtro = new ItemFilterDTO(null, null, null, 25D, 30D, null, null, "Cerveja", null, false);
+        // Act
+        var plano = explicaConsulta(() -> itemRepository.findAll(ItemSpecifications.of(filtro)));
+        // Assert
+        assertThat(plano).containsIgnoringCase("ix_item_categoria_preco");
+    }
+
+    @Test
+    void deveUsarIndice_QuandoListarItemsPorFaixaDePreco() {
+        // Arrange
+        var filtro = new ItemFilterDTO(null, null, null, 25D, 30D, null, null, null, null, false);
+        // Act
+        var plano = explicaConsulta(() -> itemRepository.findAll(ItemSpecifications.of(filtro)));
+        // Assert
+        assertThat(plano).containsIgnoringCase("ix_item_preco");
+    }
+
+    @Test
+    void deveUsarIndice_QuandoBuscarItemsPorExemplo() {
+        // Arrange
+        var exemplo = new Item(null, null, null, "Cerveja", null, null);
+        // Act
+        var plano = explicaConsulta(() -> itemRepository.findAll(Example.of(exemplo)));
+        // Assert
+        assertThat(plano).containsIgnoringCase("ix_item_categoria_preco");
+    }
+
+    @Test
+    void devePermitirListarItemsPorFaixaDePrecoEEstoque() {
+        // Arrange
+        var filtro = new ItemFilterDTO(null, null, null, 25D, 30D, null, null, "Cerveja", 3000L, false);
+        // Act
+        var itemsListados = itemRepository.findAll(ItemSpecifications.of(filtro));
+        // Assert
+        assertThat(itemsListados).extracting(Item::getNome).containsExactly("Fullers ESB");
+    }
+
+    @Test
+    void devePermitirListarItemsPorPrefixoIgnorandoCaixa_ordenadoPorPreco() {
+        // Arrange
+        var filtro = new ItemFilterDTO("FULLERS", ItemMatchMode.PREFIX, null, null, null, null, null, null, null, true);
+        var pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("preco")));
+        // Act
+        var itemsListados = itemRepository.findSlice(ItemSpecifications.of(filtro), pageable);
+        // Assert
+        assertThat(itemsListados.getContent()).extracting(Item::getNome)
+                .containsExactly("Fullers Black Cab", "Fullers ESB", "Fullers London Pride");
+        assertThat(itemsListados.hasNext()).isFalse();
+    }
+
+    @Test
+    void devePermitirListarApenasCamposInformados() {
+        // Arrange
+        var filtro = new ItemFilterDTO(null, null, null, null, 26D, null, null, null, null, false);
+        var pageable = PageRequest.of(0, 1, Sort.by(Sort.Order.desc("preco")));
+        // Act
+        var itemsListados = itemRepository.findSlice(ItemSpecifications.of(filtro), pageable, List.of("id", "nome", "preco"));
+        // Assert
+        assertThat(itemsListados.getContent()).hasSize(1);
+        assertThat(itemsListados.getContent().get(0))
+                .containsOnlyKeys("id", "nome", "preco")
+                .containsEntry("preco", 25.58);
+        assertThat(itemsListados.hasNext()).isTrue();
+    }
+
+    @Test
+    void devePermitirListarApenasCamposInformados_criadoEm() {
+        // Arrange
+        var filtro = new ItemFilterDTO(null, null, null, null, null, null, null, null, null, false);
+        var pageable = PageRequest.of(0, 1);
+        // Act
+        var itemsListados = itemRepository.findSlice(ItemSpecifications.of(filtro), pageable, List.of("id", "criadoEm"));
+        // Assert
+        assertThat(itemsListados.getContent()).hasSize(1);
+        assertThat(itemsListados.getContent().get(0)).containsOnlyKeys("id", "criadoEm");
+        assertThat(itemsListados.getContent().get(0).get("criadoEm")).isInstanceOf(Instant.class);
+    }
+
+    @Test
+    void devePermitirListarApenasCamposInformados_atualizadoEm() {
+        // Arrange
+        var filtro = new ItemFilterDTO(null, null, null, null, null, null, null, null, null, false);
+        var pageable = PageRequest.of(0, 1);
+        // Act
+        var itemsListados = itemRepository.findSlice(ItemSpecifications.of(filtro), pageable, List.of("id", "atualizadoEm"));
+        // Assert
+        assertThat(itemsListados.getContent()).hasSize(1);
+        assertThat(itemsListados.getContent().get(0)).containsOnlyKeys("id", "atualizadoEm");
+        assertThat(itemsListados.getContent().get(0).get("atualizadoEm")).isInstanceOf(Instant.class);
+    }
+
+    @Test
+    void devePermitirReservarQuantidade_retornandoQuantidadeRestante() {
+        // Arrange
+        var id = UUID.fromString("b04fa8fb-2de7-4589-9606-94e834acf310");
+        // Act
+        var restante = itemRepository.reservaQuantidade(id, 14L, Instant.now());
+        // Assert
+        assertThat(restante).contains(2300L);
+        assertThat(itemRepository.findQuantidadeById(id)).contains(2300L);
+    }
+
+    @Test
+    void naoDevePermitirReservarQuantidade_estoqueInsuficiente() {
+        // Arrange
+        var id = UUID.fromString("b04fa8fb-2de7-4589-9606-94e834acf310");
+        // Act
+        var restante = itemRepository.reservaQuantidade(id, 5000L, Instant.now());
+        // Assert
+        assertThat(restante).isEmpty();
+        assertThat(itemRepository.findQuantidadeById(id)).contains(2314L);
+    }
+
+    @Test
+    void devePermitirExportarItemsPorCategoria() {
+        // Act
+        try (var items = itemRepository.streamForExport("Cerveja", null)) {
+            // Assert
+            assertThat(items.map(ItemReadModel::nome))
+                    .contains("Fullers London Pride", "Morland Brewery Old Speckled Hen");
+        }
+    }
+
+    @Test
+    void devePermitirRegistrarDatasDeCriacaoEAlteracao() {
+        // Arrange
+        var item = ItemHelper.getItem(true);
+        // Act
+        var itemCadastrado = itemRepository.saveAndFlush(item);
+        // Assert
+        assertThat(itemCadastrado.getCriadoEm()).isNotNull();
+        assertThat(itemCadastrado.getAtualizadoEm()).isNotNull();
+    }
+
+    @Test
+    void devePermitirBuscarItemsAtualizadosDesde() {
+        // Arrange
+        var id = UUID.fromString("3ed55af0-6970-438a-9b99-42b6e2b5d56f");
+        var agora = Instant.now();
+        jdbcTemplate.update("update tb_item set atualizado_em = ? where id = ?",
+                Timestamp.from(agora.plus(1, ChronoUnit.DAYS)), id);
+        // Act
+        var items = itemRepository.findAll(ItemSpecifications.atualizadoDesde(agora.plus(1, ChronoUnit.HOURS)));
+        // Assert
+        assertThat(items).extracting(Item::getId).containsExactly(id);
+    }
+
+    @Test
+    void devePermitirExportarItemsAtualizadosDesde() {
+        // Act
+        try (var items = itemRepository.streamForExport(null, Instant.now().plus(1, ChronoUnit.DAYS))) {
+            // Assert
+            assertThat(items).isEmpty();
+        }
+    }
+
+    @Test
+    void deveUsarIndice_QuandoExportarItemsPorCategoria() {
+        // Act
+        var plano = explicaConsulta(() -> {
+            try (var items = itemRepository.streamForExport("Cerveja", null)) {
+                items.forEach(item -> { });
+            }
+        });
+        // Assert
+        assertThat(plano).containsIgnoringCase("ix_item_categoria_preco").doesNotContainIgnoringCase("is null");
+    }
+
+    @Test
+    void devePermitirExportarItemsPorCategoriaEAtualizadosDesde() {
+        // Arrange
+        var id = UUID.fromString("3ed55af0-6970-438a-9b99-42b6e2b5d56f");
+        var agora = Instant.now();
+        jdbcTemplate.update("update tb_item set atualizado_em = ? where id = ?",
+                Timestamp.from(agora.plus(1, ChronoUnit.DAYS)), id);
+        var categoria = jdbcTemplate.queryForObject("select categoria from tb_item where id = ?", String.class, id);
+        // Act
+        try (var items = itemRepository.streamForExport(categoria, agora.plus(1, ChronoUnit.HOURS))) {
+            // Assert
+            assertThat(items.map(ItemReadModel::id)).containsExactly(id);
+        }
+    }
+
+    private String explicaConsulta(Runnable consulta) {
+        SqlCaptureInspector.limpa();
+        consulta.run();
+        var sql = SqlCaptureInspector.capturados().stream()
+                .filter(capturado -> capturado.startsWith("select") && capturado.contains("tb_item"))
+                .reduce((primeiro, segundo) -> segundo)
+                .orElseThrow();
+        return jdbcTemplate.queryForObject("explain " + sql, String.class);
+    }
 }
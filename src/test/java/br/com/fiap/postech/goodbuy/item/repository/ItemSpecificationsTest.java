@@ -0,0 +1,42 @@
+package br.com.fiap.postech.goodbuy.item.repository;
+
+import br.com.fiap.postech.goodbuy.item.dto.ItemFilterDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemMatchMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.ExampleMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemSpecificationsTest {
+
+    @Test
+    void devePermitirConfigurarComparacaoPorCampo() {
+        // Arrange
+        var filtro = new ItemFilterDTO(
+                "fullers", ItemMatchMode.PREFIX, null, null, null, "ale", ItemMatchMode.CONTAINS, "Cerveja", null, true
+        );
+        // Act
+        var example = ItemSpecifications.toExample(filtro);
+        // Assert
+        var specifiers = example.getMatcher().getPropertySpecifiers();
+        assertThat(specifiers.getForPath("nome").getStringMatcher()).isEqualTo(ExampleMatcher.StringMatcher.STARTING);
+        assertThat(specifiers.getForPath("nome").getIgnoreCase()).isTrue();
+        assertThat(specifiers.getForPath("descricao").getStringMatcher()).isEqualTo(ExampleMatcher.StringMatcher.CONTAINING);
+        assertThat(specifiers.getForPath("categoria").getStringMatcher()).isEqualTo(ExampleMatcher.StringMatcher.EXACT);
+        assertThat(specifiers.getForPath("categoria").getIgnoreCase()).isNotEqualTo(Boolean.TRUE);
+        assertThat(example.getProbe().getCategoria()).isEqualTo("Cerveja");
+        assertThat(example.getProbe().getId()).isNull();
+    }
+
+    @Test
+    void devePermitirUsarComparacaoExataPorPadrao() {
+        // Arrange
+        var filtro = new ItemFilterDTO(null, null, null, null, null, null, null, null, null, false);
+        // Act
+        var example = ItemSpecifications.toExample(filtro);
+        // Assert
+        var specifiers = example.getMatcher().getPropertySpecifiers();
+        assertThat(specifiers.getForPath("nome").getStringMatcher()).isEqualTo(ExampleMatcher.StringMatcher.EXACT);
+        assertThat(specifiers.getForPath("descricao").getStringMatcher()).isEqualTo(ExampleMatcher.StringMatcher.EXACT);
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.fiap.postech.goodbuy.item.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTermsTest {
+
+    @Test
+    void devePermitirRemoverAcentos() {
+        // Act
+        var termo = SearchTerms.fold("Pão de Açúcar");
+        // Assert
+        assertThat(termo).isEqualTo("pao de acucar");
+    }
+
+    @Test
+    void devePermitirSepararTermos() {
+        // Act
+        var tokens = SearchTerms.tokenize("  London, ALE & london! ");
+        // Assert
+        assertThat(tokens).containsExactly("london", "ale");
+    }
+
+    @Test
+    void devePermitirSepararTermos_semTermos() {
+        // Act && Assert
+        assertThat(SearchTerms.tokenize(null)).isEmpty();
+        assertThat(SearchTerms.tokenize(" :*& ")).isEmpty();
+    }
+}
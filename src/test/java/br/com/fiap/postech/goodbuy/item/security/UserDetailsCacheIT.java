@@ -0,0 +1,107 @@
+package br.com.fiap.postech.goodbuy.item.security;
+
+import br.com.fiap.postech.goodbuy.item.helper.UserHelper;
+import br.com.fiap.postech.goodbuy.security.UserDetailsServiceImpl;
+import br.com.fiap.postech.goodbuy.security.User;
+import br.com.fiap.postech.goodbuy.security.enums.UserRole;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "item.security.user-cache.enabled=true"
+)
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+public class UserDetailsCacheIT {
+    private static final String ITEM = "/goodbuy/item/e83807a3-31fc-4b56-988c-93eb36f13925";
+    private static final Duration EXPIRACAO = Duration.ofSeconds(60);
+
+    @LocalServerPort
+    private int port;
+
+    @SpyBean
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private UserDetailsCachePostProcessor userDetailsCachePostProcessor;
+
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        RestAssured.port = port;
+        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        user = UserHelper.getUser(UserRole.USER);
+        doReturn(UserHelper.getUserDetails(user)).when(userDetailsService).loadUserByUsername(anyString());
+        userDetailsCachePostProcessor.getCache().invalidateAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userDetailsCachePostProcessor.getCache().policy().expireAfterWrite()
+                .ifPresent(expiracao -> expiracao.setExpiresAfter(EXPIRACAO));
+    }
+
+    @Test
+    void deveCarregarUsuarioUmaVez_QuandoRepetirRequisicoesAutenticadas() {
+        // Act
+        buscaItem();
+        buscaItem();
+        buscaItem();
+        // Assert
+        verify(userDetailsService, times(1)).loadUserByUsername(anyString());
+        assertThat(userDetailsCachePostProcessor.getCache().stats().hitCount()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void deveRecarregarUsuario_QuandoCacheForInvalidado() {
+        // Arrange
+        buscaItem();
+        // Act
+        userDetailsCachePostProcessor.getCache().invalidateAll();
+        buscaItem();
+        // Assert
+        verify(userDetailsService, times(2)).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void deveRecarregarUsuario_QuandoExpirar() throws InterruptedException {
+        // Arrange
+        userDetailsCachePostProcessor.getCache().policy().expireAfterWrite()
+                .ifPresent(expiracao -> expiracao.setExpiresAfter(Duration.ofMillis(200)));
+        buscaItem();
+        // Act
+        TimeUnit.MILLISECONDS.sleep(400);
+        buscaItem();
+        // Assert
+        verify(userDetailsService, times(2)).loadUserByUsername(anyString());
+    }
+
+    private void buscaItem() {
+        given()
+            .header(HttpHeaders.AUTHORIZATION, UserHelper.getToken(user))
+        .when()
+            .get(ITEM)
+        .then()
+            .statusCode(HttpStatus.OK.value());
+    }
+}
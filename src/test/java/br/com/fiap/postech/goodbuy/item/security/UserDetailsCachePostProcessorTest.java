@@ -0,0 +1,100 @@
+package br.com.fiap.postech.goodbuy.item.security;
+
+import br.com.fiap.postech.goodbuy.item.helper.UserHelper;
+import br.com.fiap.postech.goodbuy.security.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserDetailsCachePostProcessorTest {
+    private static final String BEAN_NAME = "userDetailsServiceImpl";
+
+    @Test
+    void deveReutilizarUsuarioCarregado() {
+        // Arrange
+        var postProcessor = new UserDetailsCachePostProcessor(BEAN_NAME, 100, Duration.ofMinutes(1));
+        var userDetailsService = new ContadorUserDetailsService();
+        var proxy = (ContadorUserDetailsService) postProcessor.postProcessAfterInitialization(userDetailsService, BEAN_NAME);
+        // Act
+        var primeiro = proxy.loadUserByUsername("anderson.wagner");
+        var segundo = proxy.loadUserByUsername("anderson.wagner");
+        // Assert
+        assertThat(segundo).isEqualTo(primeiro).isNotSameAs(primeiro);
+        assertThat(segundo.getAuthorities()).isEqualTo(primeiro.getAuthorities());
+        assertThat(userDetailsService.chamadas.get()).isEqualTo(1);
+        assertThat(postProcessor.getCache().stats().hitCount()).isEqualTo(1);
+        assertThat(postProcessor.getCache().stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void naoDeveAlterarUsuarioEmCache_QuandoChamadorApagarCredenciais() {
+        // Arrange
+        var postProcessor = new UserDetailsCachePostProcessor(BEAN_NAME, 100, Duration.ofMinutes(1));
+        var proxy = (UserDetailsService) postProcessor.postProcessAfterInitialization(new ContadorUserDetailsService(), BEAN_NAME);
+        var primeiro = proxy.loadUserByUsername("anderson.wagner");
+        // Act
+        ((CredentialsContainer) primeiro).eraseCredentials();
+        var segundo = proxy.loadUserByUsername("anderson.wagner");
+        // Assert
+        assertThat(primeiro.getPassword()).isNull();
+        assertThat(segundo.getPassword()).isNotNull();
+    }
+
+    @Test
+    void naoDeveManterUsuarioNaoEncontrado() {
+        // Arrange
+        var postProcessor = new UserDetailsCachePostProcessor(BEAN_NAME, 100, Duration.ofMinutes(1));
+        var userDetailsService = new ContadorUserDetailsService();
+        var proxy = (UserDetailsService) postProcessor.postProcessAfterInitialization(userDetailsService, BEAN_NAME);
+        // Act && Assert
+        assertThatThrownBy(() -> proxy.loadUserByUsername("desconhecido"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> proxy.loadUserByUsername("desconhecido"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThat(userDetailsService.chamadas.get()).isEqualTo(2);
+        assertThat(postProcessor.getCache().estimatedSize()).isZero();
+    }
+
+    @Test
+    void naoDeveAlterarOutrosBeans() {
+        // Arrange
+        var postProcessor = new UserDetailsCachePostProcessor(BEAN_NAME, 100, Duration.ofMinutes(1));
+        var bean = new Object();
+        // Act
+        var resultado = postProcessor.postProcessAfterInitialization(bean, "outroBean");
+        // Assert
+        assertThat(resultado).isSameAs(bean);
+    }
+
+    @Test
+    void naoDeveAlterarOutroUserDetailsService() {
+        // Arrange
+        var postProcessor = new UserDetailsCachePostProcessor(BEAN_NAME, 100, Duration.ofMinutes(1));
+        var userDetailsService = new ContadorUserDetailsService();
+        // Act
+        var resultado = postProcessor.postProcessAfterInitialization(userDetailsService, "inMemoryUserDetailsManager");
+        // Assert
+        assertThat(resultado).isSameAs(userDetailsService);
+    }
+
+    static class ContadorUserDetailsService implements UserDetailsService {
+        private final AtomicInteger chamadas = new AtomicInteger();
+
+        @Override
+        public UserDetails loadUserByUsername(String username) {
+            chamadas.incrementAndGet();
+            if (!"anderson.wagner".equals(username)) {
+                throw new UsernameNotFoundException("Usuário não encontrado: " + username);
+            }
+            return UserHelper.getUserDetails(UserHelper.getUser(UserRole.ADMIN));
+        }
+    }
+}
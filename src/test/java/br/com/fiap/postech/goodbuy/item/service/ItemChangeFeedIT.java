@@ -0,0 +1,177 @@
+package br.com.fiap.postech.goodbuy.item.service;
+
+import br.com.fiap.postech.goodbuy.item.dto.ItemChangeBatchDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemChangeDTO;
+import br.com.fiap.postech.goodbuy.item.entity.ItemChange;
+import br.com.fiap.postech.goodbuy.item.entity.ItemChangeOperation;
+import br.com.fiap.postech.goodbuy.item.helper.ItemHelper;
+import br.com.fiap.postech.goodbuy.item.repository.ItemChangeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "item.changes.poll-interval=PT1M")
+@AutoConfigureTestDatabase
+@ActiveProfiles("test")
+public class ItemChangeFeedIT {
+    private static final int ESCRITORES = 8;
+    private static final int ALTERACOES_POR_ESCRITOR = 25;
+
+    private final ItemService itemService;
+    private final ItemChangeRepository itemChangeRepository;
+    private final ItemChangeSequencer itemChangeSequencer;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public ItemChangeFeedIT(ItemService itemService, ItemChangeRepository itemChangeRepository,
+                            ItemChangeSequencer itemChangeSequencer, PlatformTransactionManager transactionManager) {
+        this.itemService = itemService;
+        this.itemChangeRepository = itemChangeRepository;
+        this.itemChangeSequencer = itemChangeSequencer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void deveEntregarAlteracaoConfirmadaForaDeOrdem_NaProximaLeitura() throws Exception {
+        // Arrange
+        long inicio = itemChangeSequencer.sequencia();
+        var idLento = UUID.randomUUID();
+        var idRapido = UUID.randomUUID();
+        var inserida = new CountDownLatch(1);
+        var liberada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ItemChange> lenta = executor.submit(() -> transactionTemplate.execute(status -> {
+                var alteracao = itemChangeRepository.saveAndFlush(new ItemChange(idLento, ItemChangeOperation.CREATED));
+                inserida.countDown();
+                aguarda(liberada);
+                return alteracao;
+            }));
+            assertThat(inserida.await(10, TimeUnit.SECONDS)).isTrue();
+            var rapida = transactionTemplate.execute(status ->
+                    itemChangeRepository.saveAndFlush(new ItemChange(idRapido, ItemChangeOperation.CREATED)));
+            assertThat(rapida).isNotNull();
+            itemChangeSequencer.sequencia();
+            // Act
+            var antesDoCommit = itemService.findChanges(inicio, ItemServiceImpl.MAX_CHANGES_SIZE, Duration.ZERO).join();
+            liberada.countDown();
+            assertThat(lenta.get(10, TimeUnit.SECONDS).getSequencia()).isLessThan(rapida.getSequencia());
+            itemChangeSequencer.sequencia();
+            var depoisDoCommit = itemService.findChanges(antesDoCommit.nextSince(), ItemServiceImpl.MAX_CHANGES_SIZE, Duration.ZERO).join();
+            // Assert
+            assertThat(antesDoCommit.changes()).extracting(ItemChangeDTO::id).contains(idRapido).doesNotContain(idLento);
+            assertThat(depoisDoCommit.changes()).extracting(ItemChangeDTO::id).contains(idLento);
+        } finally {
+            liberada.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void deveResponderEspera_QuandoAlteracaoForConfirmada() throws Exception {
+        // Arrange
+        long since = itemChangeSequencer.sequencia();
+        var espera = itemService.findChanges(since, ItemServiceImpl.MAX_CHANGES_SIZE, Duration.ofSeconds(30));
+        assertThat(espera).isNotDone();
+        var item = ItemHelper.getItem(false);
+        item.setNome("Item " + UUID.randomUUID());
+        // Act
+        var id = itemService.save(item).getId();
+        // Assert
+        try {
+            assertThat(espera.get(5, TimeUnit.SECONDS).changes()).extracting(ItemChangeDTO::id).contains(id);
+        } finally {
+            itemService.delete(id);
+        }
+    }
+
+    @Test
+    void deveEntregarTodasAsAlteracoes_ComEscritoresConcorrentes() throws Exception {
+        // Arrange
+        long since = itemChangeSequencer.sequencia();
+        Set<UUID> escritas = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(ESCRITORES);
+        List<Future<?>> escritores = new ArrayList<>();
+        try {
+            for (int escritor = 0; escritor < ESCRITORES; escritor++) {
+                escritores.add(executor.submit(() -> {
+                    for (int i = 0; i < ALTERACOES_POR_ESCRITOR; i++) {
+                        var id = UUID.randomUUID();
+                        transactionTemplate.executeWithoutResult(status -> {
+                            itemChangeRepository.saveAndFlush(new ItemChange(id, ItemChangeOperation.CREATED));
+                            pausa();
+                        });
+                        escritas.add(id);
+                    }
+                    return null;
+                }));
+            }
+            // Act
+            Set<UUID> recebidas = new HashSet<>();
+            List<Long> posicoes = new ArrayList<>();
+            while (!escritores.stream().allMatch(Future::isDone)) {
+                since = consome(since, recebidas, posicoes);
+            }
+            for (Future<?> escritor : escritores) {
+                escritor.get(30, TimeUnit.SECONDS);
+            }
+            consome(since, recebidas, posicoes);
+            // Assert
+            assertThat(escritas).hasSize(ESCRITORES * ALTERACOES_POR_ESCRITOR);
+            assertThat(recebidas).containsAll(escritas);
+            assertThat(posicoes).doesNotHaveDuplicates().isSorted();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long consome(long since, Set<UUID> recebidas, List<Long> posicoes) {
+        ItemChangeBatchDTO alteracoes;
+        itemChangeSequencer.sequencia();
+        do {
+            alteracoes = itemService.findChanges(since, 50, Duration.ZERO).join();
+            alteracoes.changes().forEach(alteracao -> {
+                recebidas.add(alteracao.id());
+                posicoes.add(alteracao.sequencia());
+            });
+            since = alteracoes.nextSince();
+        } while (alteracoes.hasNext());
+        return since;
+    }
+
+    private static void pausa() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextInt(5));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void aguarda(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.fiap.postech.goodbuy.item.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class ItemChangeNotifierTest {
+    private ItemChangeNotifier itemChangeNotifier;
+    @Mock
+    private ItemChangeSequencer itemChangeSequencer;
+
+    private AutoCloseable mock;
+
+    @BeforeEach
+    void setUp() {
+        mock = MockitoAnnotations.openMocks(this);
+        itemChangeNotifier = new ItemChangeNotifier(itemChangeSequencer, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        itemChangeNotifier.destroy();
+        mock.close();
+    }
+
+    @Test
+    void deveCompletarEspera_QuandoAlteracaoForConfirmada() throws Exception {
+        // Arrange
+        when(itemChangeSequencer.sequencia()).thenReturn(5L);
+        var espera = itemChangeNotifier.aguarda(5L, Duration.ofSeconds(30), () -> "lido");
+        // Act
+        when(itemChangeSequencer.sequencia()).thenReturn(6L);
+        itemChangeNotifier.notificaAposCommit();
+        // Assert
+        assertThat(espera.get(5, TimeUnit.SECONDS)).isEqualTo("lido");
+    }
+
+    @Test
+    void deveCompletarEspera_QuandoPrazoExpirar() throws Exception {
+        // Arrange
+        when(itemChangeSequencer.sequencia()).thenReturn(5L);
+        // Act
+        var espera = itemChangeNotifier.aguarda(5L, Duration.ofMillis(50), () -> "vazio");
+        // Assert
+        assertThat(espera.get(5, TimeUnit.SECONDS)).isEqualTo("vazio");
+    }
+
+    @Test
+    void deveSequenciarAlteracoes_QuandoNaoHouverEsperas() {
+        // Act
+        itemChangeNotifier.notificaAposCommit();
+        // Assert
+        verify(itemChangeSequencer, timeout(5000)).sequencia();
+    }
+
+    @Test
+    void deveNotificarUmaVezPorTransacao_SomenteAposCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            itemChangeNotifier.notificaAposCommit();
+            itemChangeNotifier.notificaAposCommit();
+            // Assert
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+            verifyNoInteractions(itemChangeSequencer);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.fiap.postech.goodbuy.item.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ItemCursorTest {
+
+    @Test
+    void devePermitirCodificarEDecodificarCursor() {
+        // Arrange
+        var id = UUID.randomUUID();
+        var position = ScrollPosition.forward(Map.of("nome", "Fullers London Pride", "id", id));
+        // Act
+        var cursor = ItemCursor.encode(position);
+        var decodificado = ItemCursor.decode(cursor);
+        // Assert
+        assertThat(decodificado.getKeys())
+                .containsEntry("nome", "Fullers London Pride")
+                .containsEntry("id", id);
+        assertThat(decodificado.scrollsForward()).isTrue();
+    }
+
+    @Test
+    void devePermitirDecodificarCursorVazio() {
+        // Act
+        var decodificado = ItemCursor.decode(null);
+        // Assert
+        assertThat(decodificado.isInitial()).isTrue();
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoDecodificarCursorInvalido() {
+        // Act && Assert
+        assertThatThrownBy(() -> ItemCursor.decode("cursor-invalido"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cursor inválido.");
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.fiap.postech.goodbuy.item.service;
+
+import br.com.fiap.postech.goodbuy.item.entity.ItemReadModel;
+import br.com.fiap.postech.goodbuy.item.repository.ItemReactiveRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ItemReactiveServiceTest {
+    private ItemReactiveService itemReactiveService;
+
+    @Mock
+    private ItemReactiveRepository itemReactiveRepository;
+
+    private AutoCloseable mock;
+
+    @BeforeEach
+    void setUp() {
+        mock = MockitoAnnotations.openMocks(this);
+        itemReactiveService = new ItemReactiveServiceImpl(itemReactiveRepository);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mock.close();
+    }
+
+    @Test
+    void devePermitirBuscarItem() {
+        // Arrange
+        var item = getItem();
+        when(itemReactiveRepository.findById(item.id())).thenReturn(Mono.just(item));
+        // Act && Assert
+        StepVerifier.create(itemReactiveService.findById(item.id()))
+                .expectNext(item)
+                .verifyComplete();
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoBuscarItem_idNaoExiste() {
+        // Arrange
+        var id = UUID.randomUUID();
+        when(itemReactiveRepository.findById(id)).thenReturn(Mono.empty());
+        // Act && Assert
+        StepVerifier.create(itemReactiveService.findById(id))
+                .expectErrorMessage("Item não encontrado com o ID: " + id)
+                .verify();
+    }
+
+    @Test
+    void devePermitirBuscarItemsPorIds_semRepetir() {
+        // Arrange
+        var item = getItem();
+        when(itemReactiveRepository.findAllById(any(Iterable.class))).thenReturn(Flux.just(item));
+        // Act && Assert
+        StepVerifier.create(itemReactiveService.findAllById(List.of(item.id(), item.id())))
+                .expectNext(item)
+                .verifyComplete();
+        verify(itemReactiveRepository, times(1)).findAllById(Set.of(item.id()));
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoBuscarItemsPorIds_acimaDoLimite() {
+        // Arrange
+        var ids = IntStream.range(0, ItemServiceImpl.MAX_BATCH_SIZE + 1).mapToObj(i -> UUID.randomUUID()).toList();
+        // Act && Assert
+        assertThatThrownBy(() -> itemReactiveService.findAllById(ids))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("No máximo 500 ids podem ser consultados por vez.");
+        verify(itemReactiveRepository, never()).findAllById(any(Iterable.class));
+    }
+
+    @Test
+    void devePermitirListarItemsPorCategoria() {
+        // Arrange
+        var item = getItem();
+        var pageable = PageRequest.of(0, 10);
+        when(itemReactiveRepository.findByCategoria("Cerveja", pageable)).thenReturn(Flux.just(item));
+        // Act && Assert
+        StepVerifier.create(itemReactiveService.findAll(pageable, "Cerveja"))
+                .expectNext(item)
+                .verifyComplete();
+        verify(itemReactiveRepository, never()).findAllBy(any());
+    }
+
+    @Test
+    void devePermitirTransmitirItemsRespeitandoDemanda() {
+        // Arrange
+        var items = IntStream.range(0, 3).mapToObj(i -> getItem()).toList();
+        when(itemReactiveRepository.streamAll()).thenReturn(Flux.fromIterable(items));
+        // Act && Assert
+        StepVerifier.create(itemReactiveService.stream(null), 1)
+                .expectNext(items.get(0))
+                .thenRequest(2)
+                .expectNext(items.get(1), items.get(2))
+                .verifyComplete();
+    }
+
+    private static ItemReadModel getItem() {
+        return new ItemReadModel(
+                UUID.randomUUID(), "Fullers ESB", 29.12, "Extra Special Bitter", "Cerveja", "urldaImagemDaESB", 4312L, 0L,
+                Instant.parse("2024-05-01T10:15:30Z"), Instant.parse("2024-05-01T10:15:30Z")
+        );
+    }
+}
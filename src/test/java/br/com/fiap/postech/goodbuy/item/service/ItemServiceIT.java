@@ -1,5 +1,9 @@
 package br.com.fiap.postech.goodbuy.item.service;
 
+import br.com.fiap.postech.goodbuy.item.config.CacheConfiguration;
+import br.com.fiap.postech.goodbuy.item.dto.ItemFilterDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemStockRequestDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemStockStatus;
 import br.com.fiap.postech.goodbuy.item.entity.Item;
 import br.com.fiap.postech.goodbuy.item.helper.ItemHelper;
 import br.com.fiap.postech.goodbuy.item.repository.ItemRepository;
@@ -8,11 +12,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @AutoConfigureTestDatabase
@@ -21,10 +30,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 public class ItemServiceIT {
 
     private final ItemRepository itemRepository;
+    private final ItemService itemService;
+    private final CacheManager cacheManager;
 
     @Autowired
-    public ItemServiceIT(ItemRepository itemRepository) {
+    public ItemServiceIT(ItemRepository itemRepository, ItemService itemService, CacheManager cacheManager) {
         this.itemRepository = itemRepository;
+        this.itemService = itemService;
+        this.cacheManager = cacheManager;
     }
 
     @Test
@@ -79,4 +92,90 @@ public class ItemServiceIT {
         // Assert
         assertThat(itemsListados).hasSize(4);
     }
+
+    @Test
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    void devePermitirBuscarItemEmCache() {
+        // Arrange
+        var id = UUID.fromString("e83807a3-31fc-4b56-988c-93eb36f13925");
+        var cache = cacheManager.getCache(CacheConfiguration.ITEM_CACHE);
+        assertThat(cache).isNotNull();
+        cache.evict(id);
+        // Act
+        var itemObtido = itemService.findById(id);
+        // Assert
+        assertThat(cache.get(id, Item.class)).isSameAs(itemObtido);
+        assertThat(itemService.findById(id)).isSameAs(itemObtido);
+    }
+    @Test
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    void deveInvalidarCache_QuandoAlterarItem() {
+        // Arrange
+        var id = UUID.fromString("3ed55af0-6970-438a-9b99-42b6e2b5d56f");
+        var cache = cacheManager.getCache(CacheConfiguration.ITEM_CACHE);
+        assertThat(cache).isNotNull();
+        itemService.findById(id);
+        var itemParam = new Item(null, null, null, null, "urldaImagemDaOSH", null);
+        // Act
+        itemService.update(id, itemParam);
+        // Assert
+        assertThat(cache.get(id)).isNull();
+    }
+    @Test
+    void deveGerarExcecao_QuandoAlterarItem_versaoDesatualizada() {
+        // Arrange
+        var id = UUID.fromString("759ae7fa-2cd2-46ef-9c54-737a4d9d408d");
+        var itemParam = new Item(null, 40.0, null, null, null, null);
+        itemParam.setVersao(99L);
+        // Act && Assert
+        assertThatThrownBy(() -> itemService.update(id, itemParam))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(itemRepository.findById(id)).get().extracting(Item::getPreco).isEqualTo(31.22);
+    }
+    @Test
+    void devePermitirDecrementarEstoque() {
+        // Arrange
+        var id = UUID.fromString("b04fa8fb-2de7-4589-9606-94e834acf310");
+        // Act
+        var resultado = itemService.decrementaEstoque(id, 14L);
+        // Assert
+        assertThat(resultado.status()).isEqualTo(ItemStockStatus.RESERVED);
+        assertThat(resultado.quantidade()).isEqualTo(2300L);
+        assertThat(itemRepository.findQuantidadeById(id)).contains(2300L);
+    }
+    @Test
+    void devePermitirDecrementarEstoque_estoqueInsuficiente() {
+        // Arrange
+        var id = UUID.fromString("3ed55af0-6970-438a-9b99-42b6e2b5d56f");
+        // Act
+        var resultado = itemService.decrementaEstoque(id, 100L);
+        // Assert
+        assertThat(resultado.status()).isEqualTo(ItemStockStatus.INSUFFICIENT_STOCK);
+        assertThat(resultado.quantidade()).isEqualTo(99L);
+    }
+
+    @Test
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    void deveInvalidarTotalEmCache_QuandoDecrementarEstoque() {
+        // Arrange
+        var item = ItemHelper.getItem(false);
+        item.setNome("Item " + UUID.randomUUID());
+        item.setQuantidade(10L);
+        var id = itemService.save(item).getId();
+        var filtroDez = new ItemFilterDTO(item.getNome(), null, null, null, null, null, null, null, 10L, false);
+        var filtroNove = new ItemFilterDTO(item.getNome(), null, null, null, null, null, null, null, 9L, false);
+        var pageable = PageRequest.of(1, 1);
+        try {
+            assertThat(itemService.findAll(pageable, filtroDez).getTotalElements()).isEqualTo(1);
+            // Act
+            itemService.decrementaEstoque(id, 1L);
+            // Assert
+            assertThat(itemService.findAll(pageable, filtroDez).getTotalElements()).isZero();
+            assertThat(itemService.findAll(pageable, filtroNove).getTotalElements()).isEqualTo(1);
+            itemService.decrementaEstoque(List.of(new ItemStockRequestDTO(id, 1L)));
+            assertThat(itemService.findAll(pageable, filtroNove).getTotalElements()).isZero();
+        } finally {
+            itemService.delete(id);
+        }
+    }
 }
@@ -1,7 +1,15 @@
 package br.com.fiap.postech.goodbuy.item.service;
 
+import br.com.fiap.postech.goodbuy.item.config.CacheConfiguration;
+import br.com.fiap.postech.goodbuy.item.dto.ItemFilterDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemStockRequestDTO;
+import br.com.fiap.postech.goodbuy.item.dto.ItemStockStatus;
 import br.com.fiap.postech.goodbuy.item.entity.Item;
+import br.com.fiap.postech.goodbuy.item.entity.ItemChange;
+import br.com.fiap.postech.goodbuy.item.entity.ItemChangeOperation;
+import br.com.fiap.postech.goodbuy.item.entity.ItemReadModel;
 import br.com.fiap.postech.goodbuy.item.helper.ItemHelper;
+import br.com.fiap.postech.goodbuy.item.repository.ItemChangeRepository;
 import br.com.fiap.postech.goodbuy.item.repository.ItemRepository;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.AfterEach;
@@ -10,14 +18,34 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Example;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -29,6 +57,10 @@ public class ItemServiceTest {
 
     @Mock
     private ItemRepository itemRepository;
+    @Mock
+    private ItemChangeRepository itemChangeRepository;
+    @Mock
+    private ItemChangeNotifier itemChangeNotifier;
 
 
     private AutoCloseable mock;
@@ -36,7 +68,7 @@ public class ItemServiceTest {
     @BeforeEach
     void setUp() {
         mock = MockitoAnnotations.openMocks(this);
-        itemService = new ItemServiceImpl(itemRepository);
+        itemService = new ItemServiceImpl(itemRepository, itemChangeRepository, itemChangeNotifier, new ConcurrentMapCacheManager());
     }
 
     @AfterEach
@@ -60,6 +92,10 @@ public class ItemServiceTest {
             assertThat(itemSalvo.getNome()).isEqualTo(item.getNome());
             assertThat(itemSalvo.getId()).isNotNull();
             verify(itemRepository, times(1)).save(any(Item.class));
+            verify(itemChangeRepository, times(1)).save(argThat((ItemChange alteracao) ->
+                    alteracao.getItemId().equals(itemSalvo.getId()) && alteracao.getOperacao() == ItemChangeOperation.CREATED
+            ));
+            verify(itemChangeNotifier, times(1)).notificaAposCommit();
         }
 
         @Test
@@ -174,8 +210,236 @@ public class ItemServiceTest {
         }
     }
 
+    @Nested
+    class CadastrarItemsEmLote {
+        @Test
+        void devePermitirCadastrarItemsEmLote() {
+            // Arrange
+            var item1 = ItemHelper.getItem(false);
+            item1.setNome("item 1");
+            var item2 = ItemHelper.getItem(false);
+            item2.setNome("item 2");
+            when(itemRepository.findNomesExistentes(anyCollection())).thenReturn(Set.of());
+            // Act
+            var resultado = itemService.saveAll(List.of(item1, item2).iterator());
+            // Assert
+            assertThat(resultado.total()).isEqualTo(2);
+            assertThat(resultado.imported()).isEqualTo(2);
+            assertThat(resultado.errors()).isEmpty();
+            assertThat(item1.getId()).isNotNull();
+            assertThat(item2.getId()).isNotNull();
+            verify(itemRepository, times(1)).findNomesExistentes(anyCollection());
+            verify(itemRepository, times(1)).persistAll(List.of(item1, item2));
+            verify(itemRepository, never()).findByNome(anyString());
+            verify(itemRepository, never()).save(any(Item.class));
+        }
+
+        @Test
+        void devePermitirCadastrarItemsEmLote_reportandoErrosPorLinha() {
+            // Arrange
+            var itemValido = ItemHelper.getItem(false);
+            itemValido.setNome("item valido");
+            var itemSemPreco = ItemHelper.getItem(false);
+            itemSemPreco.setNome("item sem preco");
+            itemSemPreco.setPreco(null);
+            var itemExistente = ItemHelper.getItem(false);
+            itemExistente.setNome("item existente");
+            var itemRepetido = ItemHelper.getItem(false);
+            itemRepetido.setNome("item valido");
+            when(itemRepository.findNomesExistentes(anyCollection())).thenReturn(Set.of("item existente"));
+            // Act
+            var resultado = itemService.saveAll(List.of(itemValido, itemSemPreco, itemExistente, itemRepetido).iterator());
+            // Assert
+            assertThat(resultado.total()).isEqualTo(4);
+            assertThat(resultado.imported()).isEqualTo(1);
+            assertThat(resultado.errors()).extracting("line").containsExactlyInAnyOrder(2L, 3L, 4L);
+            assertThat(resultado.errors()).extracting("message").contains("Preço deve ser maior que zero.");
+            verify(itemRepository, times(1)).persistAll(List.of(itemValido));
+        }
+
+        @Test
+        void devePermitirCadastrarItemsEmLote_regravandoPorLinhaQuandoLoteFalha() {
+            // Arrange
+            var itemValido = ItemHelper.getItem(false);
+            itemValido.setNome("item valido");
+            var itemInvalido = ItemHelper.getItem(false);
+            itemInvalido.setNome("item invalido");
+            when(itemRepository.findNomesExistentes(anyCollection())).thenReturn(Set.of());
+            doThrow(new DataIntegrityViolationException("lote")).when(itemRepository).persistAll(List.of(itemValido, itemInvalido));
+            doThrow(new DataIntegrityViolationException("linha")).when(itemRepository).persistAll(List.of(itemInvalido));
+            // Act
+            var resultado = itemService.saveAll(List.of(itemValido, itemInvalido).iterator());
+            // Assert
+            assertThat(resultado.total()).isEqualTo(2);
+            assertThat(resultado.imported()).isEqualTo(1);
+            assertThat(resultado.errors()).extracting("line").containsExactly(2L);
+            verify(itemRepository, times(1)).persistAll(List.of(itemValido));
+            verify(itemRepository, times(1)).persistAll(List.of(itemInvalido));
+        }
+
+        @Test
+        void devePermitirCadastrarItemsEmLote_reportandoLinhaComJsonInvalido() {
+            // Arrange
+            var item1 = ItemHelper.getItem(false);
+            item1.setNome("item 1");
+            var item3 = ItemHelper.getItem(false);
+            item3.setNome("item 3");
+            var linhas = new ArrayList<Object>(List.of(item1, "JSON inválido: Unexpected character", item3)).iterator();
+            var items = new Iterator<Item>() {
+                @Override
+                public boolean hasNext() {
+                    return linhas.hasNext();
+                }
+
+                @Override
+                public Item next() {
+                    Object linha = linhas.next();
+                    if (linha instanceof String mensagem) {
+                        throw new IllegalArgumentException(mensagem);
+                    }
+                    return (Item) linha;
+                }
+            };
+            when(itemRepository.findNomesExistentes(anyCollection())).thenReturn(Set.of());
+            // Act
+            var resultado = itemService.saveAll(items);
+            // Assert
+            assertThat(resultado.total()).isEqualTo(3);
+            assertThat(resultado.imported()).isEqualTo(2);
+            assertThat(resultado.errors()).extracting("line").containsExactly(2L);
+            assertThat(resultado.errors()).extracting("message").containsExactly("JSON inválido: Unexpected character");
+            verify(itemRepository, times(1)).persistAll(List.of(item1, item3));
+        }
+
+        @Test
+        void devePermitirCadastrarItemsEmLote_emChunks() {
+            // Arrange
+            var items = IntStream.range(0, ItemServiceImpl.IMPORT_CHUNK_SIZE + 1)
+                    .mapToObj(i -> {
+                        var item = ItemHelper.getItem(false);
+                        item.setNome("item " + i);
+                        return item;
+                    })
+                    .toList();
+            when(itemRepository.findNomesExistentes(anyCollection())).thenReturn(Set.of());
+            // Act
+            var resultado = itemService.saveAll(items.iterator());
+            // Assert
+            assertThat(resultado.imported()).isEqualTo(items.size());
+            verify(itemRepository, times(2)).findNomesExistentes(anyCollection());
+            verify(itemRepository, times(2)).persistAll(anyList());
+        }
+    }
+
     @Nested
     class BuscarItem {
+        @Test
+        void devePermitirExportarItems() {
+            // Arrange
+            var items = List.of(
+                    new ItemReadModel(UUID.randomUUID(), "Fullers ESB", 29.12, "Extra Special Bitter", "Cerveja", "urldaImagemDaESB", 4312L, 0L, null, null),
+                    new ItemReadModel(UUID.randomUUID(), "Fullers Black Cab", 31.22, "Stout", "Cerveja", "urldaImagemDaBC", 412L, 0L, null, null)
+            );
+            var atualizadoDesde = Instant.parse("2024-05-01T00:00:00Z");
+            when(itemRepository.streamForExport("Cerveja", atualizadoDesde)).thenReturn(items.stream());
+            var exportados = new ArrayList<ItemReadModel>();
+            // Act
+            var total = itemService.export("Cerveja", atualizadoDesde, exportados::add);
+            // Assert
+            assertThat(total).isEqualTo(2);
+            assertThat(exportados).containsExactlyElementsOf(items);
+        }
+
+        @Test
+        void devePermitirExportarItems_semCategoria() {
+            // Arrange
+            when(itemRepository.streamForExport(null, null)).thenReturn(Stream.empty());
+            // Act
+            var total = itemService.export(" ", null, item -> {});
+            // Assert
+            assertThat(total).isZero();
+            verify(itemRepository, times(1)).streamForExport(null, null);
+        }
+
+        @Test
+        void devePermitirBuscarTodosItem_apenasCamposInformados() {
+            // Arrange
+            var pageable = PageRequest.of(0, 10);
+            var filtro = new ItemFilterDTO(null, null, null, null, null, null, null, "Cerveja", null, false);
+            Map<String, Object> resumo = Map.of("id", UUID.randomUUID(), "nome", "Fullers ESB");
+            when(itemRepository.findSlice(any(Specification.class), any(Pageable.class), anyCollection()))
+                    .thenReturn(new SliceImpl<>(List.of(resumo), pageable, false));
+            // Act
+            var items = itemService.findSlice(pageable, filtro, List.of("nome", " nome"));
+            // Assert
+            assertThat(items.getContent()).containsExactly(resumo);
+            verify(itemRepository, times(1)).findSlice(any(Specification.class), eq(pageable), eq(Set.of("id", "nome")));
+        }
+
+        @Test
+        void devePermitirBuscarTodosItem_camposDeAuditoria() {
+            // Arrange
+            var pageable = PageRequest.of(0, 10);
+            var filtro = new ItemFilterDTO(null, null, null, null, null, null, null, null, null, false);
+            when(itemRepository.findSlice(any(Specification.class), any(Pageable.class), anyCollection()))
+                    .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+            // Act
+            itemService.findSlice(pageable, filtro, List.of("criadoEm", "atualizadoEm"));
+            // Assert
+            verify(itemRepository, times(1)).findSlice(any(Specification.class), eq(pageable), eq(Set.of("id", "criadoEm", "atualizadoEm")));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarTodosItem_campoInvalido() {
+            // Arrange
+            var pageable = PageRequest.of(0, 10);
+            var filtro = new ItemFilterDTO(null, null, null, null, null, null, null, null, null, false);
+            var campos = List.of("nome", "senha");
+            // Act && Assert
+            assertThatThrownBy(() -> itemService.findAll(pageable, filtro, campos))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Campo inválido: senha");
+            verify(itemRepository, never()).findSlice(any(Specification.class), any(Pageable.class), anyCollection());
+        }
+
+        @Test
+        void devePermitirBuscarVersaoDoItem() {
+            // Arrange
+            var id = UUID.randomUUID();
+            when(itemRepository.findVersaoById(id)).thenReturn(Optional.of(2L));
+            // Act
+            var versao = itemService.findVersaoById(id);
+            // Assert
+            assertThat(versao).isEqualTo(2L);
+            verify(itemRepository, never()).findById(any(UUID.class));
+        }
+
+        @Test
+        void devePermitirBuscarVersaoDoItem_emCache() {
+            // Arrange
+            var item = ItemHelper.getItem(true);
+            item.setVersao(5L);
+            var cacheManager = new ConcurrentMapCacheManager();
+            Objects.requireNonNull(cacheManager.getCache(CacheConfiguration.ITEM_CACHE)).put(item.getId(), item);
+            var itemServiceComCache = new ItemServiceImpl(itemRepository, itemChangeRepository, itemChangeNotifier, cacheManager);
+            // Act
+            var versao = itemServiceComCache.findVersaoById(item.getId());
+            // Assert
+            assertThat(versao).isEqualTo(5L);
+            verify(itemRepository, never()).findVersaoById(any(UUID.class));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarVersaoDoItem_idNaoExiste() {
+            // Arrange
+            var id = UUID.randomUUID();
+            when(itemRepository.findVersaoById(id)).thenReturn(Optional.empty());
+            // Act && Assert
+            assertThatThrownBy(() -> itemService.findVersaoById(id))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Item não encontrado com o ID: " + id);
+        }
+
         @Test
         void devePermitirBuscarItemPorId() {
             // Arrange
@@ -218,12 +482,12 @@ public class ItemServiceTest {
         void devePermitirBuscarTodosItem() {
             // Arrange
             Item criteriosDeBusca = ItemHelper.getItem(false);
-            Page<Item> items = new PageImpl<>(Arrays.asList(
+            Slice<Item> items = new SliceImpl<>(Arrays.asList(
                     ItemHelper.getItem(true),
                     ItemHelper.getItem(true),
                     ItemHelper.getItem(true)
             ));
-            when(itemRepository.findAll(any(Example.class), any(Pageable.class))).thenReturn(items);
+            when(itemRepository.findSlice(any(Specification.class), any(Pageable.class))).thenReturn(items);
             // Act
             var itemsObtidos = itemService.findAll(Pageable.unpaged(), criteriosDeBusca);
             // Assert
@@ -235,7 +499,161 @@ public class ItemServiceTest {
                                 .isInstanceOf(Item.class);
                     }
             );
-            verify(itemRepository, times(1)).findAll(any(Example.class), any(Pageable.class));
+            verify(itemRepository, times(1)).findSlice(any(Specification.class), any(Pageable.class));
+        }
+
+        @Test
+        void devePermitirBuscarTodosItem_usandoTotalEmCache() {
+            // Arrange
+            Item criteriosDeBusca = new Item(null, null, null, "Cerveja", null, null);
+            var pageable = PageRequest.of(0, 2);
+            Slice<Item> items = new SliceImpl<>(
+                    Arrays.asList(ItemHelper.getItem(true), ItemHelper.getItem(true)),
+                    pageable,
+                    true
+            );
+            when(itemRepository.findSlice(any(Specification.class), any(Pageable.class))).thenReturn(items);
+            when(itemRepository.count(any(Specification.class))).thenReturn(7L);
+            // Act
+            itemService.findAll(pageable, criteriosDeBusca);
+            var itemsObtidos = itemService.findAll(pageable, new Item(null, null, null, "Cerveja", null, null));
+            // Assert
+            assertThat(itemsObtidos.getTotalElements()).isEqualTo(7L);
+            assertThat(itemsObtidos.getTotalPages()).isEqualTo(4);
+            verify(itemRepository, times(2)).findSlice(any(Specification.class), any(Pageable.class));
+            verify(itemRepository, times(1)).count(any(Specification.class));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarTodosItem_faixaDePrecoInvalida() {
+            // Arrange
+            var filtro = new ItemFilterDTO(null, null, null, 30D, 20D, null, null, null, null, false);
+            // Act && Assert
+            assertThatThrownBy(() -> itemService.findAll(PageRequest.of(0, 10), filtro))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("O preço mínimo deve ser menor ou igual ao preço máximo.");
+            verify(itemRepository, never()).findSlice(any(Specification.class), any(Pageable.class));
+        }
+
+        @Test
+        void devePermitirBuscarTodosItem_semTotal() {
+            // Arrange
+            var pageable = PageRequest.of(0, 2);
+            Slice<Item> items = new SliceImpl<>(
+                    Arrays.asList(ItemHelper.getItem(true), ItemHelper.getItem(true)),
+                    pageable,
+                    true
+            );
+            when(itemRepository.findSlice(any(Specification.class), any(Pageable.class))).thenReturn(items);
+            // Act
+            var itemsObtidos = itemService.findSlice(pageable, ItemFilterDTO.of(new Item()));
+            // Assert
+            assertThat(itemsObtidos.getContent()).hasSize(2);
+            assertThat(itemsObtidos.hasNext()).isTrue();
+            verify(itemRepository, never()).count(any(Specification.class));
+        }
+
+        @Test
+        void devePermitirBuscarItemsPorTexto() {
+            // Arrange
+            var pageable = PageRequest.of(0, 10);
+            Slice<Item> items = new SliceImpl<>(List.of(ItemHelper.getItem(true)), pageable, false);
+            when(itemRepository.search("london ale", pageable)).thenReturn(items);
+            // Act
+            var itemsObtidos = itemService.search("london ale", pageable);
+            // Assert
+            assertThat(itemsObtidos.getContent()).hasSize(1);
+            verify(itemRepository, times(1)).search("london ale", pageable);
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarItemsPorTexto_semTermo() {
+            // Act && Assert
+            assertThatThrownBy(() -> itemService.search(" ", PageRequest.of(0, 10)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("O termo de busca deve ser informado.");
+            verify(itemRepository, never()).search(anyString(), any(Pageable.class));
+        }
+
+        @Test
+        void devePermitirBuscarItemsPorCursor() {
+            // Arrange
+            var item1 = ItemHelper.getItem(true);
+            var item2 = ItemHelper.getItem(true);
+            var items = List.of(item1, item2);
+            Window<Item> window = Window.from(
+                    items,
+                    i -> ScrollPosition.forward(Map.of("nome", items.get(i).getNome(), "id", items.get(i).getId())),
+                    true
+            );
+            when(itemRepository.findBy(any(Example.class), any())).thenReturn(window);
+            // Act
+            var resultado = itemService.scroll(null, 2, new Item());
+            // Assert
+            assertThat(resultado.content()).containsExactly(item1, item2);
+            assertThat(resultado.hasNext()).isTrue();
+            assertThat(ItemCursor.decode(resultado.nextCursor()).getKeys()).containsEntry("id", item2.getId());
+            verify(itemRepository, times(1)).findBy(any(Example.class), any());
+            verify(itemRepository, never()).findAll(any(Example.class), any(Pageable.class));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarItemsPorCursor_tamanhoInvalido() {
+            // Act && Assert
+            assertThatThrownBy(() -> itemService.scroll(null, 0, new Item()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("O tamanho da página deve estar entre 1 e " + ItemServiceImpl.MAX_SCROLL_SIZE + ".");
+            verify(itemRepository, never()).findBy(any(Example.class), any());
+        }
+
+        @Test
+        void devePermitirBuscarItemsPorIds() {
+            // Arrange
+            var item = ItemHelper.getItem(true);
+            var idInexistente = UUID.randomUUID();
+            when(itemRepository.findAllById(anyList())).thenReturn(List.of(item));
+            // Act
+            var resultado = itemService.findAllById(List.of(item.getId(), idInexistente, item.getId()));
+            // Assert
+            assertThat(resultado.items()).containsExactly(item);
+            assertThat(resultado.missingIds()).containsExactly(idInexistente);
+            verify(itemRepository, times(1)).findAllById(List.of(item.getId(), idInexistente));
+        }
+
+        @Test
+        void devePermitirBuscarItemsPorIds_usandoCache() {
+            // Arrange
+            var item = ItemHelper.getItem(true);
+            when(itemRepository.findAllById(anyList())).thenReturn(List.of(item));
+            itemService.findAllById(List.of(item.getId()));
+            // Act
+            var resultado = itemService.findAllById(List.of(item.getId()));
+            // Assert
+            assertThat(resultado.items()).containsExactly(item);
+            assertThat(resultado.missingIds()).isEmpty();
+            verify(itemRepository, times(1)).findAllById(anyList());
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarItemsPorIds_semIds() {
+            // Act && Assert
+            assertThatThrownBy(() -> itemService.findAllById(List.of()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Ao menos um id deve ser informado.");
+            verify(itemRepository, never()).findAllById(anyList());
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarItemsPorIds_excedendoLimite() {
+            // Arrange
+            var ids = IntStream.rangeClosed(0, ItemServiceImpl.MAX_BATCH_SIZE)
+                    .mapToObj(i -> UUID.randomUUID())
+                    .toList();
+            // Act && Assert
+            assertThatThrownBy(() -> itemService.findAllById(ids))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("No máximo " + ItemServiceImpl.MAX_BATCH_SIZE + " ids podem ser consultados por vez.");
+            verify(itemRepository, never()).findAllById(anyList());
         }
     }
 
@@ -283,6 +701,9 @@ public class ItemServiceTest {
 
             verify(itemRepository, times(1)).findById(any(UUID.class));
             verify(itemRepository, times(1)).save(any(Item.class));
+            verify(itemChangeRepository, times(1)).save(argThat((ItemChange alteracao) ->
+                    alteracao.getItemId().equals(item.getId()) && alteracao.getOperacao() == ItemChangeOperation.UPDATED
+            ));
         }
 
         @Test
@@ -307,6 +728,22 @@ public class ItemServiceTest {
             verify(itemRepository, times(1)).save(any(Item.class));
         }
 
+        @Test
+        void deveGerarExcecao_QuandoAlterarItem_versaoDesatualizada() {
+            // Arrange
+            var item = ItemHelper.getItem(true);
+            item.setVersao(4L);
+            var novoItem = new Item(null, 12.01D, null, null, null, null);
+            novoItem.setVersao(3L);
+            when(itemRepository.findById(item.getId())).thenReturn(Optional.of(item));
+            UUID uuid = item.getId();
+            // Act && Assert
+            assertThatThrownBy(() -> itemService.update(uuid, novoItem))
+                    .isInstanceOf(OptimisticLockingFailureException.class)
+                    .hasMessage("O item foi alterado por outra requisição.");
+            verify(itemRepository, never()).save(any(Item.class));
+        }
+
         @Test
         void deveGerarExcecao_QuandoAlterarItemPorId_idNaoExiste() {
             // Arrange
@@ -321,6 +758,35 @@ public class ItemServiceTest {
             verify(itemRepository, never()).save(any(Item.class));
         }
 
+        @Test
+        void deveGerarExcecao_QuandoAlterarItem_NomeExistente() {
+            // Arrange
+            var item = ItemHelper.getItem(true);
+            var novoItem = new Item("Fullers London Pride", null, null, null, null, null);
+            when(itemRepository.findById(item.getId())).thenReturn(Optional.of(item));
+            when(itemRepository.existsByNomeAndIdNot("Fullers London Pride", item.getId())).thenReturn(true);
+            UUID uuid = item.getId();
+            // Act && Assert
+            assertThatThrownBy(() -> itemService.update(uuid, novoItem))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Já existe um item cadastrado com esse nome.");
+            verify(itemRepository, never()).save(any(Item.class));
+        }
+
+        @Test
+        void devePermitirAlterarItem_mantendoOProprioNome() {
+            // Arrange
+            var item = ItemHelper.getItem(true);
+            var novoItem = new Item(item.getNome(), 12.01D, null, null, null, null);
+            when(itemRepository.findById(item.getId())).thenReturn(Optional.of(item));
+            when(itemRepository.save(any(Item.class))).thenAnswer(r -> r.getArgument(0));
+            // Act
+            var itemSalvo = itemService.update(item.getId(), novoItem);
+            // Assert
+            assertThat(itemSalvo.getPreco()).isEqualTo(12.01D);
+            verify(itemRepository, never()).existsByNomeAndIdNot(anyString(), any(UUID.class));
+        }
+
         @Test
         void deveGerarExcecao_QuandoAlterarItemPorId_alterandoId() {
             // Arrange
@@ -337,6 +803,100 @@ public class ItemServiceTest {
         }
     }
 
+    @Nested
+    class ReservarEstoque {
+        @Test
+        void devePermitirDecrementarEstoque() {
+            // Arrange
+            var id = UUID.randomUUID();
+            when(itemRepository.reservaQuantidade(eq(id), eq(3L), any(Instant.class))).thenReturn(Optional.of(7L));
+            // Act
+            var resultado = itemService.decrementaEstoque(id, 3L);
+            // Assert
+            assertThat(resultado.status()).isEqualTo(ItemStockStatus.RESERVED);
+            assertThat(resultado.quantidade()).isEqualTo(7L);
+            verify(itemRepository, times(1)).reservaQuantidade(eq(id), eq(3L), any(Instant.class));
+            verify(itemRepository, never()).findQuantidadeById(any(UUID.class));
+            verify(itemRepository, never()).findById(any(UUID.class));
+            verify(itemRepository, never()).save(any(Item.class));
+            verify(itemChangeRepository, times(1)).save(any(ItemChange.class));
+        }
+
+        @Test
+        void devePermitirDecrementarEstoque_estoqueInsuficiente() {
+            // Arrange
+            var id = UUID.randomUUID();
+            when(itemRepository.reservaQuantidade(eq(id), eq(3L), any(Instant.class))).thenReturn(Optional.empty());
+            when(itemRepository.findQuantidadeById(id)).thenReturn(Optional.of(2L));
+            // Act
+            var resultado = itemService.decrementaEstoque(id, 3L);
+            // Assert
+            assertThat(resultado.status()).isEqualTo(ItemStockStatus.INSUFFICIENT_STOCK);
+            assertThat(resultado.quantidade()).isEqualTo(2L);
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoDecrementarEstoque_idNaoExiste() {
+            // Arrange
+            var id = UUID.randomUUID();
+            when(itemRepository.reservaQuantidade(eq(id), eq(3L), any(Instant.class))).thenReturn(Optional.empty());
+            when(itemRepository.findQuantidadeById(id)).thenReturn(Optional.empty());
+            // Act && Assert
+            assertThatThrownBy(() -> itemService.decrementaEstoque(id, 3L))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Item não encontrado com o ID: " + id);
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoDecrementarEstoque_quantidadeInvalida() {
+            // Arrange
+            var id = UUID.randomUUID();
+            // Act && Assert
+            assertThatThrownBy(() -> itemService.decrementaEstoque(id, 0L))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Quantidade deve ser maior que zero.");
+            verify(itemRepository, never()).reservaQuantidade(any(UUID.class), anyLong(), any(Instant.class));
+        }
+
+        @Test
+        void devePermitirDecrementarEstoqueEmLote() {
+            // Arrange
+            var id1 = UUID.randomUUID();
+            var id2 = UUID.randomUUID();
+            when(itemRepository.reservaQuantidade(any(UUID.class), anyLong(), any(Instant.class))).thenReturn(Optional.of(10L));
+            // Act
+            var resultado = itemService.decrementaEstoque(List.of(
+                    new ItemStockRequestDTO(id1, 1L),
+                    new ItemStockRequestDTO(id2, 2L),
+                    new ItemStockRequestDTO(id1, 3L)
+            ));
+            // Assert
+            assertThat(resultado.status()).isEqualTo(ItemStockStatus.RESERVED);
+            assertThat(resultado.items()).hasSize(2);
+            verify(itemRepository, times(1)).reservaQuantidade(eq(id1), eq(4L), any(Instant.class));
+            verify(itemRepository, times(1)).reservaQuantidade(eq(id2), eq(2L), any(Instant.class));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoDecrementarEstoqueEmLote_estoqueInsuficiente() {
+            // Arrange
+            var id1 = UUID.randomUUID();
+            var id2 = UUID.randomUUID();
+            when(itemRepository.reservaQuantidade(eq(id1), eq(1L), any(Instant.class))).thenReturn(Optional.of(10L));
+            when(itemRepository.reservaQuantidade(eq(id2), eq(5L), any(Instant.class))).thenReturn(Optional.empty());
+            when(itemRepository.findQuantidadeById(id2)).thenReturn(Optional.of(4L));
+            var items = List.of(new ItemStockRequestDTO(id1, 1L), new ItemStockRequestDTO(id2, 5L));
+            // Act && Assert
+            assertThatThrownBy(() -> itemService.decrementaEstoque(items))
+                    .isInstanceOf(EstoqueInsuficienteException.class)
+                    .satisfies(exception -> {
+                        var resultado = ((EstoqueInsuficienteException) exception).getResultado();
+                        assertThat(resultado.status()).isEqualTo(ItemStockStatus.INSUFFICIENT_STOCK);
+                        assertThat(resultado.items()).extracting("id").containsExactly(id2);
+                    });
+        }
+    }
+
     @Nested
     class RemoverItem {
         @Test
@@ -350,6 +910,9 @@ public class ItemServiceTest {
             // Assert
             verify(itemRepository, times(1)).findById(any(UUID.class));
             verify(itemRepository, times(1)).deleteById(any(UUID.class));
+            verify(itemChangeRepository, times(1)).save(argThat((ItemChange alteracao) ->
+                    alteracao.getItemId().equals(item.getId()) && alteracao.getOperacao() == ItemChangeOperation.DELETED
+            ));
         }
 
         @Test
@@ -366,4 +929,92 @@ public class ItemServiceTest {
             verify(itemRepository, never()).deleteById(any(UUID.class));
         }
     }
+
+    @Nested
+    class BuscarAlteracoes {
+        @Test
+        void devePermitirBuscarAlteracoes_compactandoAlteracoesDoMesmoItem() {
+            // Arrange
+            var item = ItemHelper.getItem(true);
+            var idRemovido = UUID.randomUUID();
+            when(itemChangeRepository.findByPosicaoGreaterThanOrderByPosicao(10L, Limit.of(100))).thenReturn(List.of(
+                    alteracao(11L, item.getId(), ItemChangeOperation.CREATED),
+                    alteracao(12L, idRemovido, ItemChangeOperation.UPDATED),
+                    alteracao(13L, item.getId(), ItemChangeOperation.UPDATED),
+                    alteracao(14L, idRemovido, ItemChangeOperation.DELETED)
+            ));
+            when(itemRepository.findAllById(List.of(item.getId()))).thenReturn(List.of(item));
+            // Act
+            var alteracoes = itemService.findChanges(10L, 100, Duration.ZERO).join();
+            // Assert
+            assertThat(alteracoes.changes()).hasSize(2);
+            assertThat(alteracoes.changes().get(0).sequencia()).isEqualTo(13L);
+            assertThat(alteracoes.changes().get(0).operacao()).isEqualTo(ItemChangeOperation.UPDATED);
+            assertThat(alteracoes.changes().get(0).item()).isEqualTo(item);
+            assertThat(alteracoes.changes().get(1).id()).isEqualTo(idRemovido);
+            assertThat(alteracoes.changes().get(1).operacao()).isEqualTo(ItemChangeOperation.DELETED);
+            assertThat(alteracoes.changes().get(1).item()).isNull();
+            assertThat(alteracoes.nextSince()).isEqualTo(14L);
+            assertThat(alteracoes.hasNext()).isFalse();
+        }
+
+        @Test
+        void devePermitirBuscarAlteracoes_semAlteracoesNovas() {
+            // Arrange
+            when(itemChangeRepository.findByPosicaoGreaterThanOrderByPosicao(42L, Limit.of(1))).thenReturn(List.of());
+            // Act
+            var alteracoes = itemService.findChanges(42L, 1, Duration.ZERO).join();
+            // Assert
+            assertThat(alteracoes.changes()).isEmpty();
+            assertThat(alteracoes.nextSince()).isEqualTo(42L);
+            assertThat(alteracoes.hasNext()).isFalse();
+            verify(itemChangeRepository).findByPosicaoGreaterThanOrderByPosicao(42L, Limit.of(1));
+            verify(itemRepository, never()).findAllById(any());
+            verifyNoInteractions(itemChangeNotifier);
+        }
+
+        @Test
+        void devePermitirBuscarAlteracoes_aguardandoNovasAlteracoes() {
+            // Arrange
+            var item = ItemHelper.getItem(true);
+            when(itemChangeRepository.findByPosicaoGreaterThanOrderByPosicao(0L, Limit.of(1)))
+                    .thenReturn(List.of())
+                    .thenReturn(List.of(alteracao(1L, item.getId(), ItemChangeOperation.UPDATED)));
+            when(itemRepository.findAllById(List.of(item.getId()))).thenReturn(List.of(item));
+            when(itemChangeNotifier.aguarda(eq(0L), eq(Duration.ofSeconds(5)), any())).thenAnswer(invocation ->
+                    CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(2).get()));
+            // Act
+            var alteracoes = itemService.findChanges(0L, 1, Duration.ofSeconds(5)).join();
+            // Assert
+            assertThat(alteracoes.changes()).hasSize(1);
+            assertThat(alteracoes.nextSince()).isEqualTo(1L);
+            assertThat(alteracoes.hasNext()).isTrue();
+            verify(itemChangeRepository, times(2)).findByPosicaoGreaterThanOrderByPosicao(0L, Limit.of(1));
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarAlteracoes_limiteInvalido() {
+            // Act && Assert
+            assertThatThrownBy(() -> itemService.findChanges(0L, ItemServiceImpl.MAX_CHANGES_SIZE + 1, Duration.ZERO))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("O limite deve estar entre 1 e " + ItemServiceImpl.MAX_CHANGES_SIZE + ".");
+            verifyNoInteractions(itemChangeRepository, itemChangeNotifier);
+        }
+
+        @Test
+        void deveGerarExcecao_QuandoBuscarAlteracoes_esperaInvalida() {
+            // Act && Assert
+            assertThatThrownBy(() -> itemService.findChanges(0L, 10, Duration.ofMinutes(5)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("A espera deve estar entre 0 e 60 segundos.");
+            verifyNoInteractions(itemChangeRepository, itemChangeNotifier);
+        }
+
+        private static ItemChange alteracao(long posicao, UUID id, ItemChangeOperation operacao) {
+            var alteracao = new ItemChange(id, operacao);
+            alteracao.setSequencia(posicao);
+            alteracao.setPosicao(posicao);
+            return alteracao;
+        }
+    }
 }